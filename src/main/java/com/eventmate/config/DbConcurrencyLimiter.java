@@ -0,0 +1,77 @@
+package com.eventmate.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps concurrent callers of the database-bound services at the size of the connection pool.
+ * With virtual request threads nothing else bounds concurrency, and thousands of requests
+ * parked inside Hikari would each hold memory and time out after 30s; here they wait briefly
+ * outside the transaction and are turned away with 429 when no permit frees up in time.
+ * Ordered first so the permit is taken before the transaction opens. A call returning an
+ * unfinished {@link CompletableFuture} keeps its permit until the future completes, as
+ * registration saves the user once the password is hashed. Login only reads the user before
+ * hashing, so just that lookup is limited: holding a permit through BCrypt would let a login
+ * spike starve every other database caller.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty("eventmate.concurrency.db-limiter.enabled")
+public class DbConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    // Nested calls between limited services reuse the caller's permit instead of taking a second one.
+    private final ThreadLocal<Boolean> holding = ThreadLocal.withInitial(() -> false);
+
+    public DbConcurrencyLimiter(
+            @Value("${eventmate.concurrency.db-limiter.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${eventmate.concurrency.db-limiter.acquire-timeout-ms:1000}") long acquireTimeoutMs) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    // Cached event reads are left out: hits never touch the pool and only misses borrow a connection.
+    @Around("(execution(public * com.eventmate.service.EventService.*(..))"
+            + " && !execution(* com.eventmate.service.EventService.getEventResponse(..)))"
+            + " || execution(public * com.eventmate.service.EventSeriesService.*(..))"
+            + " || (execution(public * com.eventmate.service.AuthService.*(..))"
+            + " && !execution(* com.eventmate.service.AuthService.login(..)))"
+            + " || execution(* com.eventmate.repository.UserRepository.findByEmail(..))"
+            + " || execution(public * com.eventmate.service.RegistrationService.*(..))")
+    public Object limit(ProceedingJoinPoint call) throws Throwable {
+        if (holding.get()) return call.proceed();
+        if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new RejectedExecutionException("Database is busy, please retry");
+        }
+        holding.set(true);
+        boolean releaseLater = false;
+        try {
+            Object result = call.proceed();
+            if (result instanceof CompletableFuture<?> future && !future.isDone()) {
+                releaseLater = true;
+                future.whenComplete((value, ex) -> permits.release());
+            }
+            return result;
+        } finally {
+            holding.set(false);
+            if (!releaseLater) permits.release();
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,269 @@
+package com.eventmate.config;
+
+import com.eventmate.dto.ProblemResponse;
+import com.eventmate.service.IdempotencyService;
+import com.eventmate.service.IdempotencyService.Claim;
+import com.eventmate.service.IdempotencyService.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Makes writes sent with an {@code Idempotency-Key} header safe to retry. Runs after
+ * {@link com.eventmate.security.JwtAuthenticationFilter}, since keys are scoped to the user.
+ * The first request runs and its response is stored by {@link IdempotencyService}; a retry
+ * with the same key gets that response back with {@code Idempotent-Replayed: true}, and one
+ * whose method, path or body differ is refused with 422. Server errors and 429s are not stored,
+ * so those requests can be retried for real. The request body is hashed as the controller reads
+ * it and is never buffered.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyService idempotencyService;
+    private final List<PathPattern> paths;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService,
+                             MeterRegistry meterRegistry,
+                             ObjectMapper objectMapper,
+                             @Value("${eventmate.idempotency.paths:/api/events/**,/api/series/**}") List<String> paths) {
+        this.idempotencyService = idempotencyService;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.paths = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        Long userId = key != null && applies(request) ? currentUserId() : null;
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH || !key.chars().allMatch(c -> c >= 0x20 && c < 0x7f)) {
+            reject(request, response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be 1 to " + MAX_KEY_LENGTH + " printable ASCII characters");
+            return;
+        }
+
+        Claim claim = idempotencyService.claim(userId, key);
+        meterRegistry.counter("eventmate.idempotency.requests", "outcome", claim.outcome().name().toLowerCase()).increment();
+        switch (claim.outcome()) {
+            case REPLAY -> replay(request, response, claim.response());
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(request, response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+            }
+            case EXECUTE -> execute(request, response, filterChain, claim);
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain, Claim claim) throws ServletException, IOException {
+        HashingRequest hashing = new HashingRequest(request);
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(hashing, captured);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            idempotencyService.release(claim);
+            throw ex;
+        }
+        int status = captured.getStatus();
+        if (status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value() || request.isAsyncStarted()) {
+            idempotencyService.release(claim);
+        } else {
+            try {
+                idempotencyService.complete(claim, hashing.finish(), status, captured.getContentType(),
+                        captured.getHeader(HttpHeaders.LOCATION), captured.getContentAsByteArray());
+            } catch (IOException | RuntimeException ex) {
+                // the write has happened; answer it anyway, a retry will run it again
+                log.warn("Could not store the response for Idempotency-Key {} of user {}", claim.key(), claim.userId(), ex);
+            }
+        }
+        captured.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response,
+                        StoredResponse stored) throws IOException {
+        if (!MessageDigest.isEqual(stored.requestHash(), new HashingRequest(request).finish())) {
+            reject(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.location() != null) response.setHeader(HttpHeaders.LOCATION, stored.location());
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        if (stored.body() != null && stored.body().length > 0) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private boolean applies(HttpServletRequest request) {
+        if (!METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return paths.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof Long userId ? userId : null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(ProblemResponse.MEDIA_TYPE.toString());
+        objectMapper.writeValue(response.getOutputStream(), ProblemResponse.of(status, message, request.getRequestURI()));
+    }
+
+    /** Hashes method, path, query and body; the body as it streams past whoever reads it. */
+    private static final class HashingRequest extends HttpServletRequestWrapper {
+
+        private final MessageDigest digest;
+        private ServletInputStream input;
+        private BufferedReader reader;
+
+        HashingRequest(HttpServletRequest request) {
+            super(request);
+            this.digest = sha256();
+            String query = request.getQueryString();
+            digest.update((request.getMethod() + ' ' + request.getRequestURI()
+                    + (query != null ? '?' + query : "") + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (input == null) {
+                input = new DigestingInputStream(super.getInputStream(), digest);
+            }
+            return input;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        // Hashes whatever the handler left unread, then returns the hash.
+        byte[] finish() throws IOException {
+            ((DigestingInputStream) getInputStream()).drain();
+            return digest.digest();
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+
+    // Drains itself into the digest before closing, as Jackson closes the body once it has parsed a value.
+    private static final class DigestingInputStream extends ServletInputStream {
+
+        private final ServletInputStream source;
+        private final DigestInputStream in;
+        private boolean finished;
+        private boolean closed;
+
+        DigestingInputStream(ServletInputStream source, MessageDigest digest) {
+            this.source = source;
+            this.in = new DigestInputStream(source, digest);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            finished = b == -1;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            finished = n == -1;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            drain();
+            closed = true;
+            in.close();
+        }
+
+        void drain() throws IOException {
+            if (closed) return;
+            byte[] buffer = new byte[8192];
+            while (!finished) {
+                read(buffer, 0, buffer.length);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return source.isReady();
+        }
+
+        // Non-blocking readers still read through this stream, so their bytes are hashed too.
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            source.setReadListener(readListener);
+        }
+    }
+}
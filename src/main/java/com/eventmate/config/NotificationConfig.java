@@ -0,0 +1,28 @@
+package com.eventmate.config;
+
+import com.eventmate.service.LoggingNotificationSender;
+import com.eventmate.service.NotificationSender;
+import com.eventmate.service.SmtpNotificationSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@Configuration
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnProperty("spring.mail.host")
+    public NotificationSender smtpNotificationSender(JavaMailSender mailSender,
+                                                     @Value("${MAIL_FROM:no-reply@eventmate.local}") String from) {
+        return new SmtpNotificationSender(mailSender, from);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(NotificationSender.class)
+    public NotificationSender loggingNotificationSender() {
+        return new LoggingNotificationSender();
+    }
+}
@@ -0,0 +1,36 @@
+package com.eventmate.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Two schedulers, so a slow background job never delays the sub-second ones. {@code taskScheduler}
+ * is the default for {@code @Scheduled} and runs the outbox dispatcher, stats flush, archiving and
+ * purges on a pool sized by {@code spring.task.scheduling.pool.size}. {@code realtimeScheduler}
+ * only runs the seat stream publish and the reminder tick.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String REALTIME = "realtimeScheduler";
+
+    // Declared explicitly because any other TaskScheduler bean turns Boot's default one off.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(REALTIME)
+    public ThreadPoolTaskScheduler realtimeScheduler(
+            @Value("${eventmate.scheduling.realtime-threads:2}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("realtime-");
+        return scheduler;
+    }
+}
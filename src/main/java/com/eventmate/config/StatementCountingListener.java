@@ -0,0 +1,31 @@
+package com.eventmate.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Counts JDBC statements and batches executed on the current thread. Hibernate creates one
+ * instance per session (see {@code hibernate.session.events.auto}); the count itself is per
+ * thread so it spans every session a request opens. Read and reset by {@link StatementCountFilter}.
+ */
+public class StatementCountingListener extends BaseSessionEventListener {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        COUNT.get()[0]++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        COUNT.get()[0]++;
+    }
+
+    static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    static int current() {
+        return COUNT.get()[0];
+    }
+}
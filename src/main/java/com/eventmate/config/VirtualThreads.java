@@ -0,0 +1,69 @@
+package com.eventmate.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for blocking background work. The project still compiles for Java 17, so
+ * virtual threads are looked up reflectively: on a Java 21+ runtime every task gets its
+ * own virtual thread, otherwise a fixed pool of platform threads is used.
+ */
+public final class VirtualThreads {
+
+    private static final boolean SUPPORTED = Runtime.version().feature() >= 21;
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    public static ExecutorService newPerTaskExecutor(String namePrefix, int fallbackThreads) {
+        ExecutorService virtual = newVirtualPerTaskExecutor(namePrefix);
+        return virtual != null ? virtual : Executors.newFixedThreadPool(fallbackThreads, platformThreadFactory(namePrefix));
+    }
+
+    /**
+     * Like {@link #newPerTaskExecutor(String, int)}, but the platform fallback has no queue: it
+     * keeps {@code coreThreads}, grows to {@code maxThreads} while all are busy and then rejects
+     * with {@link RejectedExecutionException}, so blocked tasks cannot hold up the ones behind them.
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix, int coreThreads, int maxThreads) {
+        ExecutorService virtual = newVirtualPerTaskExecutor(namePrefix);
+        return virtual != null ? virtual : new ThreadPoolExecutor(coreThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), platformThreadFactory(namePrefix));
+    }
+
+    private static ExecutorService newVirtualPerTaskExecutor(String namePrefix) {
+        if (!SUPPORTED) return null;
+        try {
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, virtualThreadFactory(namePrefix));
+        } catch (ReflectiveOperationException ex) {
+            return null;   // fall back to platform threads
+        }
+    }
+
+    public static ThreadFactory virtualThreadFactory(String namePrefix) throws ReflectiveOperationException {
+        Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+        return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+    }
+
+    private static ThreadFactory platformThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventmate.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Virtual threads need a Java 21+ runtime while the project still targets Java 17. Spring
+ * quietly keeps platform threads when they are asked for on an older runtime, so say so.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("spring.threads.virtual.enabled")
+class VirtualThreadsCheck {
+
+    @PostConstruct
+    void check() {
+        if (VirtualThreads.isSupported()) {
+            log.info("Virtual threads enabled for request handling, scheduling and background senders");
+        } else {
+            log.warn("spring.threads.virtual.enabled is set, but Java {} has no virtual threads: requests, "
+                    + "schedulers and background senders stay on platform threads. Run on Java 21+ to use them.",
+                    Runtime.version().feature());
+        }
+    }
+}
@@ -5,9 +5,11 @@ import com.eventmate.entity.User;
 import com.eventmate.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -17,12 +19,19 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/register")
-    public ResponseEntity<User> register(@Valid @RequestBody RegisterRequest req) {
-        return ResponseEntity.ok(authService.register(req));
+    public CompletableFuture<ResponseEntity<User>> register(@Valid @RequestBody RegisterRequest req) {
+        return authService.register(req).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest req) {
-        return ResponseEntity.ok(authService.login(req));
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest req) {
+        return authService.login(req).thenApply(ResponseEntity::ok);
+    }
+
+    // Signs the user out everywhere: every token issued to them so far stops working.
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(Authentication authentication) {
+        authService.logout((Long) authentication.getPrincipal());
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,91 @@
+package com.eventmate.controller;
+
+import com.eventmate.dto.CalendarFeedResponse;
+import com.eventmate.dto.ScheduleEntry;
+import com.eventmate.service.CalendarFeedService;
+import com.eventmate.service.UserCalendarIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    private static final Duration DEFAULT_WINDOW = Duration.ofDays(30);
+
+    private final UserCalendarIndex calendarIndex;
+    private final CalendarFeedService calendarFeedService;
+
+    // Without bounds: the next 30 days.
+    @GetMapping
+    public ResponseEntity<List<ScheduleEntry>> schedule(
+            Authentication authentication,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to) {
+
+        Long userId = extractUserId(authentication);
+        Instant start = from != null ? from : Instant.now();
+        Instant end = to != null ? to : start.plus(DEFAULT_WINDOW);
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        return ResponseEntity.ok(calendarIndex.schedule(userId, start, end));
+    }
+
+    @GetMapping("/feed")
+    public ResponseEntity<CalendarFeedResponse> feedUrl(Authentication authentication) {
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(feedResponse(userId, calendarFeedService.feedToken(userId)));
+    }
+
+    // The old URL stops working; calendar clients have to be given the new one.
+    @PostMapping("/feed/reset")
+    public ResponseEntity<CalendarFeedResponse> resetFeedUrl(Authentication authentication) {
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(feedResponse(userId, calendarFeedService.rotateFeedToken(userId)));
+    }
+
+    // Public: calendar clients authenticate with the token from /feed in the URL.
+    @GetMapping("/{userId}.ics")
+    public ResponseEntity<StreamingResponseBody> feed(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String token) {
+
+        if (!calendarFeedService.isFeedToken(userId, token)) {
+            throw new SecurityException("Invalid calendar feed token");
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noStore())
+                .body(calendarFeedService.feed(userId));
+    }
+
+    private static CalendarFeedResponse feedResponse(Long userId, String token) {
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/calendar/{userId}.ics")
+                .queryParam("token", token)
+                .buildAndExpand(userId)
+                .toUriString();
+        return new CalendarFeedResponse(url);
+    }
+
+    private Long extractUserId(Authentication auth) {
+        if (auth == null || auth.getPrincipal() == null) throw new SecurityException("Unauthenticated");
+        Object principal = auth.getPrincipal();
+        if (principal instanceof Long) return (Long) principal;
+        throw new IllegalStateException("Unexpected principal type: " + principal.getClass());
+    }
+}
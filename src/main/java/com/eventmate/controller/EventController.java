@@ -1,17 +1,44 @@
 package com.eventmate.controller;
 
+import com.eventmate.dto.BulkImportItemResult;
+import com.eventmate.dto.BulkImportResponse;
+import com.eventmate.dto.EventDashboard;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventPage;
 import com.eventmate.dto.EventRequest;
 import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.EventSearchPage;
 import com.eventmate.entity.Event;
 import com.eventmate.service.EventService;
+import com.eventmate.service.EventStatsService;
+import com.eventmate.service.ExportFormat;
+import com.eventmate.service.ExportService;
+import com.eventmate.service.SeatAvailabilityStream;
 import com.eventmate.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
@@ -20,6 +47,10 @@ public class EventController {
 
     private final EventService eventService;
     private final UserService userService; // optional usage
+    private final ExportService exportService;
+    private final EventStatsService eventStatsService;
+    private final SeatAvailabilityStream seatAvailabilityStream;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<EventResponse> createEvent(
@@ -32,6 +63,34 @@ public class EventController {
         return ResponseEntity.created(URI.create("/api/events/" + created.getId())).body(resp);
     }
 
+    // Results are written item by item as they are generated. Not a StreamingResponseBody: that
+    // completes asynchronously, and an Idempotency-Key can only be stored for a response that
+    // finishes on the request thread.
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void importEvents(
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Long userId = extractUserId(authentication);
+        List<EventRequest> items = readEventArray(request.getInputStream());
+        BulkImportResponse result = eventService.importEvents(userId, items);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator json = objectMapper.createGenerator(response.getOutputStream())) {
+            json.writeStartObject();
+            json.writeNumberField("created", result.created());
+            json.writeNumberField("rejected", result.rejected());
+            json.writeArrayFieldStart("items");
+            for (Iterator<BulkImportItemResult> it = result.items().iterator(); it.hasNext(); ) {
+                json.writeObject(it.next());
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventResponse> updateEvent(
             Authentication authentication,
@@ -53,15 +112,81 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping
+    public ResponseEntity<EventPage> listEvents(
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long organizerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        EventFilter filter = new EventFilter(from, to, location, organizerId);
+        return ResponseEntity.ok(eventService.listEvents(filter, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<EventSearchPage> searchEvents(
+            @RequestParam String q,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(eventService.searchEvents(q, from, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            Authentication authentication,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        Long userId = extractUserId(authentication);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return attachment("events", exportFormat, exportService.exportEvents(userId, exportFormat));
+    }
+
+    @GetMapping("/export/registrations")
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            Authentication authentication,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        Long userId = extractUserId(authentication);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return attachment("registrations", exportFormat, exportService.exportRegistrations(userId, exportFormat));
+    }
+
+    // The ETag is the entity version; Spring answers a matching If-None-Match with 304 and no body.
     @GetMapping("/{id}")
     public ResponseEntity<EventResponse> getEvent(@PathVariable Long id) {
-        return eventService.getEvent(id)
-                .map(this::toResponse)
-                .map(ResponseEntity::ok)
+        return eventService.getEventResponse(id)
+                .map(resp -> ResponseEntity.ok().eTag(String.valueOf(resp.version())).body(resp))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    private EventResponse toResponse(Event e) {
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<EventDashboard> getDashboard(
+            Authentication authentication,
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "24") int hours) {
+
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(eventStatsService.dashboard(userId, id, hours));
+    }
+
+    // Pushes a "seats" event with the current counts on connect and after every change.
+    @GetMapping(value = "/{id}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeats(@PathVariable Long id) {
+        return seatAvailabilityStream.subscribe(id);
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.extension() + "\"")
+                .body(body);
+    }
+
+    static EventResponse toResponse(Event e) {
         return new EventResponse(
                 e.getId(),
                 e.getTitle(),
@@ -71,10 +196,32 @@ public class EventController {
                 e.getEndTime(),
                 e.getCapacity(),
                 e.getCreatedBy(),
-                e.getCreatedAt()
+                e.getCreatedAt(),
+                e.getVersion(),
+                e.getSeriesId()
         );
     }
 
+    // Binds the array one element at a time straight off the request stream, without an
+    // intermediate JSON tree, and stops reading once the import limit is exceeded.
+    private List<EventRequest> readEventArray(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of events");
+            }
+            List<EventRequest> items = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) throw new IllegalArgumentException("Unterminated JSON array");
+                items.add(parser.readValueAs(EventRequest.class));
+                if (items.size() > EventService.MAX_IMPORT_SIZE) break;
+            }
+            return items;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed event array: " + ex.getOriginalMessage());
+        }
+    }
+
     // Extract user id from Authentication principal (we set principal to the user's id in the JWT filter)
     private Long extractUserId(Authentication auth) {
         if (auth == null || auth.getPrincipal() == null) throw new SecurityException("Unauthenticated");
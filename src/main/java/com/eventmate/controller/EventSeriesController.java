@@ -0,0 +1,92 @@
+package com.eventmate.controller;
+
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.EventSeriesRequest;
+import com.eventmate.dto.EventSeriesResponse;
+import com.eventmate.entity.EventSeries;
+import com.eventmate.service.EventSeriesService;
+import com.eventmate.service.EventService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/series")
+@RequiredArgsConstructor
+public class EventSeriesController {
+
+    private static final int MAX_OCCURRENCES_PER_PAGE = 100;
+
+    private final EventSeriesService eventSeriesService;
+    private final EventService eventService;
+
+    @PostMapping
+    public ResponseEntity<EventSeriesResponse> createSeries(
+            Authentication authentication,
+            @Valid @RequestBody EventSeriesRequest req) {
+
+        Long userId = extractUserId(authentication);
+        EventSeries created = eventSeriesService.createSeries(userId, req);
+        return ResponseEntity.created(URI.create("/api/series/" + created.getId())).body(toResponse(created));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EventSeriesResponse> getSeries(@PathVariable Long id) {
+        return eventSeriesService.getSeries(id)
+                .map(series -> ResponseEntity.ok(toResponse(series)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Occurrences from `from` on (default now); continue from the last start + 1s.
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<List<EventResponse>> listOccurrences(
+            @PathVariable Long id,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_OCCURRENCES_PER_PAGE));
+        return ResponseEntity.ok(eventSeriesService.listSeriesOccurrences(id, from != null ? from : Instant.now(), pageSize));
+    }
+
+    @DeleteMapping("/{id}/occurrences/{start}")
+    public ResponseEntity<Void> cancelOccurrence(
+            Authentication authentication,
+            @PathVariable Long id,
+            @PathVariable Instant start) {
+
+        Long userId = extractUserId(authentication);
+        eventService.cancelSeriesOccurrence(userId, id, start);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static EventSeriesResponse toResponse(EventSeries s) {
+        return new EventSeriesResponse(
+                s.getId(),
+                s.getTitle(),
+                s.getDescription(),
+                s.getLocation(),
+                s.getCapacity(),
+                s.getFirstStart(),
+                s.getFirstStart().plusSeconds(s.getDurationSeconds()),
+                s.getTimeZone(),
+                s.getRecurrence(),
+                s.getOccurrenceCount(),
+                s.getLastEnd(),
+                s.getCreatedBy(),
+                s.getCreatedAt()
+        );
+    }
+
+    private Long extractUserId(Authentication auth) {
+        if (auth == null || auth.getPrincipal() == null) throw new SecurityException("Unauthenticated");
+        Object principal = auth.getPrincipal();
+        if (principal instanceof Long) return (Long) principal;
+        throw new IllegalStateException("Unexpected principal type: " + principal.getClass());
+    }
+}
@@ -1,22 +1,86 @@
 package com.eventmate.controller;
 
+import com.eventmate.config.VirtualThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private static final int DB_TIMEOUT_SECONDS = 2;
+
+    private final DataSource dataSource;
+    private final ExecutorService checks = VirtualThreads.newPerTaskExecutor("health-", 1);
+    // The running check, shared by concurrent probes so an exhausted pool cannot pile up waiters.
+    private CompletableFuture<Boolean> inFlight;
+
+    // Readiness: 503 unless a pooled connection is acquired and answers a validity check within
+    // the timeout. The acquire can wait for the pool's own (much longer) connection timeout, so it
+    // runs off the request thread and the probe gives up on it after DB_TIMEOUT_SECONDS.
     @GetMapping
-    public Map<String, String> health() {
-        return Map.of(
-            "status", "UP",
-            "timestamp", Instant.now().toString()
-        );
+    public ResponseEntity<Map<String, Object>> health() {
+        Map<String, Object> db = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        boolean up = false;
+        try {
+            up = check().get(DB_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (!up) db.put("error", "database connection is not valid");
+        } catch (TimeoutException ex) {
+            db.put("error", "database did not answer in time");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            db.put("error", "database check interrupted");
+        } catch (ExecutionException ex) {
+            // the cause can name hosts and drivers; it goes to the log, not to this public endpoint
+            log.warn("Database health check failed: {}", ex.getCause().toString());
+            db.put("error", "database unavailable");
+        }
+        db.put("status", up ? "UP" : "DOWN");
+        db.put("latencyMs", (System.nanoTime() - start) / 1_000_000.0);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", up ? "UP" : "DOWN");
+        body.put("timestamp", Instant.now().toString());
+        body.put("db", db);
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
+    private synchronized CompletableFuture<Boolean> check() {
+        if (inFlight == null || inFlight.isDone()) {
+            inFlight = CompletableFuture.supplyAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return connection.isValid(DB_TIMEOUT_SECONDS);
+                } catch (Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            }, checks);
+        }
+        return inFlight;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        checks.shutdownNow();
     }
-    
 }
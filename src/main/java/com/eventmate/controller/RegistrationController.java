@@ -1,5 +1,101 @@
 package com.eventmate.controller;
 
+import com.eventmate.dto.RegistrationResponse;
+import com.eventmate.dto.ScheduleEntry;
+import com.eventmate.entity.Registration;
+import com.eventmate.service.EventSeriesService;
+import com.eventmate.service.RegistrationService;
+import com.eventmate.service.UserCalendarIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
 public class RegistrationController {
-    
+
+    private final RegistrationService registrationService;
+    private final EventSeriesService eventSeriesService;
+    private final UserCalendarIndex calendarIndex;
+
+    @PostMapping("/events/{eventId}/registrations")
+    public ResponseEntity<RegistrationResponse> register(
+            Authentication authentication,
+            @PathVariable Long eventId) {
+
+        Long userId = extractUserId(authentication);
+        Registration registration = registrationService.register(userId, eventId);
+        return ResponseEntity.created(URI.create("/api/registrations/" + registration.getId()))
+                .body(withConflicts(registration));
+    }
+
+    // The first registration turns the occurrence into an event; cancel it through its event id.
+    @PostMapping("/series/{seriesId}/occurrences/{start}/registrations")
+    public ResponseEntity<RegistrationResponse> registerForOccurrence(
+            Authentication authentication,
+            @PathVariable Long seriesId,
+            @PathVariable Instant start) {
+
+        Long userId = extractUserId(authentication);
+        Registration registration = eventSeriesService.registerForOccurrence(userId, seriesId, start);
+        return ResponseEntity.created(URI.create("/api/registrations/" + registration.getId()))
+                .body(withConflicts(registration));
+    }
+
+    @DeleteMapping("/events/{eventId}/registrations")
+    public ResponseEntity<Void> cancel(
+            Authentication authentication,
+            @PathVariable Long eventId) {
+
+        Long userId = extractUserId(authentication);
+        registrationService.cancel(userId, eventId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/registrations")
+    public ResponseEntity<List<RegistrationResponse>> myRegistrations(Authentication authentication) {
+        Long userId = extractUserId(authentication);
+        return ResponseEntity.ok(registrationService.getForUser(userId).stream()
+                .map(this::toResponse)
+                .toList());
+    }
+
+    private RegistrationResponse toResponse(Registration r) {
+        return new RegistrationResponse(
+                r.getId(),
+                r.getEventId(),
+                r.getUserId(),
+                r.getStatus().name(),
+                r.getCreatedAt(),
+                null
+        );
+    }
+
+    // Overlaps are reported, not refused, unless eventmate.calendar.conflicts=block.
+    private RegistrationResponse withConflicts(Registration r) {
+        List<Long> conflicts = calendarIndex.conflicts(r.getUserId(), r.getEventId()).stream()
+                .map(ScheduleEntry::eventId)
+                .toList();
+        return new RegistrationResponse(
+                r.getId(),
+                r.getEventId(),
+                r.getUserId(),
+                r.getStatus().name(),
+                r.getCreatedAt(),
+                conflicts
+        );
+    }
+
+    private Long extractUserId(Authentication auth) {
+        if (auth == null || auth.getPrincipal() == null) throw new SecurityException("Unauthenticated");
+        Object principal = auth.getPrincipal();
+        if (principal instanceof Long) return (Long) principal;
+        throw new IllegalStateException("Unexpected principal type: " + principal.getClass());
+    }
 }
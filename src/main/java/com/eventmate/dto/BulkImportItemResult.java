@@ -0,0 +1,16 @@
+package com.eventmate.dto;
+
+public record BulkImportItemResult(
+    int index,
+    String status,
+    Long id,
+    String error
+) {
+    public static BulkImportItemResult created(int index, Long id) {
+        return new BulkImportItemResult(index, "CREATED", id, null);
+    }
+
+    public static BulkImportItemResult rejected(int index, String error) {
+        return new BulkImportItemResult(index, "REJECTED", null, error);
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventmate.dto;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Outcome of a bulk import, kept as one id or one error per item. The per-item results are
+ * produced on demand so the controller can write them out one by one.
+ */
+public record BulkImportResponse(
+    int created,
+    int rejected,
+    List<Long> ids,
+    List<String> errors
+) {
+    public Stream<BulkImportItemResult> items() {
+        return IntStream.range(0, ids.size()).mapToObj(this::item);
+    }
+
+    public BulkImportItemResult item(int index) {
+        String error = errors.get(index);
+        return error == null
+                ? BulkImportItemResult.created(index, ids.get(index))
+                : BulkImportItemResult.rejected(index, error);
+    }
+}
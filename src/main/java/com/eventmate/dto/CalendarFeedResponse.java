@@ -0,0 +1,3 @@
+package com.eventmate.dto;
+
+public record CalendarFeedResponse(String url) {}
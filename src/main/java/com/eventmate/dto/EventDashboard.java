@@ -0,0 +1,15 @@
+package com.eventmate.dto;
+
+import java.util.List;
+
+// Seat counts are read from the event row; the rest lag by up to one stats flush interval.
+public record EventDashboard(
+    Long eventId,
+    int capacity,
+    int booked,
+    int remaining,
+    int waitlisted,
+    long registrations,
+    long cancellations,
+    List<HourlyActivity> hourly
+) {}
@@ -0,0 +1,13 @@
+package com.eventmate.dto;
+
+import java.time.Instant;
+
+/**
+ * Optional listing filters. {@code from}/{@code to} bound the event start time; null fields are ignored.
+ */
+public record EventFilter(
+    Instant from,
+    Instant to,
+    String location,
+    Long organizerId
+) {}
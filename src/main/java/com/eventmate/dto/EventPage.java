@@ -0,0 +1,8 @@
+package com.eventmate.dto;
+
+import java.util.List;
+
+public record EventPage(
+    List<EventResponse> items,
+    String nextCursor
+) {}
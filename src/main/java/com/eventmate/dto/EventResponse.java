@@ -2,6 +2,10 @@ package com.eventmate.dto;
 
 import java.time.Instant;
 
+/**
+ * An event or a series occurrence. Occurrences nobody has registered for yet exist only as their
+ * series' rule: they carry {@code seriesId} but no {@code id} or {@code version}.
+ */
 public record EventResponse(
     Long id,
     String title,
@@ -11,5 +15,7 @@ public record EventResponse(
     Instant endTime,
     Integer capacity,
     Long createdBy,
-    Instant createdAt
+    Instant createdAt,
+    Long version,
+    Long seriesId
 ) {}
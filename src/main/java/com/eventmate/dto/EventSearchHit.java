@@ -0,0 +1,8 @@
+package com.eventmate.dto;
+
+// snippet is HTML: the event text escaped, with matched words wrapped in <mark>…</mark>
+public record EventSearchHit(
+    EventResponse event,
+    float rank,
+    String snippet
+) {}
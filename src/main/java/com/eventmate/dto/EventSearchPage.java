@@ -0,0 +1,8 @@
+package com.eventmate.dto;
+
+import java.util.List;
+
+public record EventSearchPage(
+    List<EventSearchHit> items,
+    String nextCursor
+) {}
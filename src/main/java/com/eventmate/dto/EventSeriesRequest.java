@@ -0,0 +1,22 @@
+package com.eventmate.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+
+/**
+ * A recurring event. {@code startTime}/{@code endTime} are the first occurrence, {@code recurrence}
+ * an RRULE such as {@code FREQ=WEEKLY;BYDAY=TU;COUNT=52}, expanded in {@code timeZone} (default UTC).
+ */
+public record EventSeriesRequest(
+    @NotBlank String title,
+    String description,
+    String location,
+    @NotNull Instant startTime,
+    @NotNull Instant endTime,
+    @NotNull @Min(1) Integer capacity,
+    String timeZone,
+    @NotBlank String recurrence
+) {}
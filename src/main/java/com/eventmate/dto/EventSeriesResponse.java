@@ -0,0 +1,19 @@
+package com.eventmate.dto;
+
+import java.time.Instant;
+
+public record EventSeriesResponse(
+    Long id,
+    String title,
+    String description,
+    String location,
+    Integer capacity,
+    Instant firstStart,
+    Instant firstEnd,
+    String timeZone,
+    String recurrence,
+    Integer occurrenceCount,
+    Instant lastEnd,
+    Long createdBy,
+    Instant createdAt
+) {}
@@ -0,0 +1,9 @@
+package com.eventmate.dto;
+
+import java.time.Instant;
+
+public record HourlyActivity(
+    Instant hour,
+    int registrations,
+    int cancellations
+) {}
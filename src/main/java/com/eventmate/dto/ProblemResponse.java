@@ -0,0 +1,27 @@
+package com.eventmate.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * Error body in RFC 7807 form, sent as {@code application/problem+json}. The members match
+ * Spring's {@code ProblemDetail}, but {@code instance} stays the request path as given instead
+ * of being parsed into a URI. Errors are not further typed, so {@code type} is always
+ * {@code about:blank} and {@code title} the status phrase.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProblemResponse(
+    String type,
+    String title,
+    int status,
+    String detail,
+    String instance
+) {
+    public static final String BLANK_TYPE = "about:blank";
+    public static final MediaType MEDIA_TYPE = MediaType.APPLICATION_PROBLEM_JSON;
+
+    public static ProblemResponse of(HttpStatus status, String detail, String instance) {
+        return new ProblemResponse(BLANK_TYPE, status.getReasonPhrase(), status.value(), detail, instance);
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventmate.dto;
+
+import com.eventmate.entity.Registration;
+
+import java.time.Instant;
+
+public record RegistrationExportRow(
+    Long id,
+    Long eventId,
+    String eventTitle,
+    Long userId,
+    String attendeeName,
+    String attendeeEmail,
+    Registration.Status status,
+    Instant createdAt,
+    Instant cancelledAt
+) {}
@@ -0,0 +1,19 @@
+package com.eventmate.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@code conflictsWith} is only set on a new registration: the ids of the user's other
+ * registered events that overlap this one.
+ */
+public record RegistrationResponse(
+    Long id,
+    Long eventId,
+    Long userId,
+    String status,
+    Instant createdAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<Long> conflictsWith
+) {}
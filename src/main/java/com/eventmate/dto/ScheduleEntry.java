@@ -0,0 +1,14 @@
+package com.eventmate.dto;
+
+import com.eventmate.entity.Registration;
+
+import java.time.Instant;
+
+public record ScheduleEntry(
+    Long eventId,
+    String title,
+    String location,
+    Instant startTime,
+    Instant endTime,
+    Registration.Status status
+) {}
@@ -0,0 +1,26 @@
+package com.eventmate.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (rank desc, id) ordering of search results, handed to clients as an
+ * opaque token. The rank round-trips exactly, so the next page resumes on the same row.
+ */
+public record SearchCursor(float rank, Long id) {
+
+    public String encode() {
+        String raw = Float.toString(rank) + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new SearchCursor(Float.parseFloat(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
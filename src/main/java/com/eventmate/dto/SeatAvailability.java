@@ -0,0 +1,8 @@
+package com.eventmate.dto;
+
+public record SeatAvailability(
+    Long eventId,
+    int capacity,
+    int booked,
+    int remaining
+) {}
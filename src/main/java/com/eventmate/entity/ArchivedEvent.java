@@ -0,0 +1,55 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// An Event moved out of the live table by EventArchiveService. Rows are written by insert-select only.
+@Entity
+@Table(name = "events_archive")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ArchivedEvent {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    private String location;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(nullable = false)
+    private Integer booked;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    // null when the event ended; set when the organizer deleted it
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+}
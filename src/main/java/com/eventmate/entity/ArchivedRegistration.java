@@ -0,0 +1,35 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// A Registration archived together with its event; eventStart is the partition key.
+@Entity
+@Table(name = "registrations_archive")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ArchivedRegistration {
+    @Id
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Registration.Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "cancelled_at")
+    private Instant cancelledAt;
+
+    @Column(name = "event_start", nullable = false)
+    private Instant eventStart;
+}
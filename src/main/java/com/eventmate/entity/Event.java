@@ -6,12 +6,14 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+       uniqueConstraints = @UniqueConstraint(name = "uq_events_series_start", columnNames = {"series_id", "start_time"}))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,9 +33,24 @@ public class Event {
     @Column(nullable = false)
     private Integer capacity;
 
+    // Only ever changed by the conditional seat updates in EventRepository, never by an entity flush,
+    // so saving an edited event cannot overwrite concurrent bookings.
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Integer booked = 0;
+
     @Column(name = "created_by", nullable = false)
     private Long createdBy;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
+
+    // Set on occurrences materialized from an EventSeries; start and end then follow the series rule.
+    @Column(name = "series_id", updatable = false)
+    private Long seriesId;
+
+    // Bumped on every entity update; also serves as the ETag of GET /api/events/{id}.
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
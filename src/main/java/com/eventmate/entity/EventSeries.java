@@ -0,0 +1,71 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A recurring event stored as one row: the first occurrence plus a recurrence rule. Occurrences
+ * are expanded on read and only become {@link Event} rows (with {@code seriesId} set) once someone
+ * registers for them.
+ */
+@Entity
+@Table(name = "event_series")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class EventSeries {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    private String location;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(name = "first_start", nullable = false, updatable = false)
+    private Instant firstStart;
+
+    @Column(name = "duration_seconds", nullable = false, updatable = false)
+    private Long durationSeconds;
+
+    @Column(name = "time_zone", nullable = false, updatable = false, length = 64)
+    private String timeZone;
+
+    // Canonical RRULE text, see RecurrenceRule.
+    @Column(nullable = false, updatable = false)
+    private String recurrence;
+
+    @Column(name = "occurrence_count", nullable = false, updatable = false)
+    private Integer occurrenceCount;
+
+    // End of the last occurrence; lets listing and overlap queries skip finished series.
+    @Column(name = "last_end", nullable = false, updatable = false)
+    private Instant lastEnd;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Cancelled occurrence starts (RFC 5545 EXDATE).
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "event_series_exdates", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "start_time", nullable = false)
+    private Set<Instant> exdates = new HashSet<>();
+}
@@ -0,0 +1,24 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Running per-event totals, only ever changed by the additive updates in EventStatsRepository.
+@Entity
+@Table(name = "event_stats")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class EventStats {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Integer waitlisted;
+
+    @Column(nullable = false)
+    private Long registrations;
+
+    @Column(nullable = false)
+    private Long cancellations;
+}
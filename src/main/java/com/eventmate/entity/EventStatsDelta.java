@@ -0,0 +1,32 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// One committed registration change, waiting to be added to EventStats and EventStatsHourly.
+@Entity
+@Table(name = "event_stats_delta")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class EventStatsDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(nullable = false)
+    private Integer waitlisted;
+
+    @Column(nullable = false)
+    private Integer registrations;
+
+    @Column(nullable = false)
+    private Integer cancellations;
+}
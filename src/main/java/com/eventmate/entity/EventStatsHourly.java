@@ -0,0 +1,36 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Entity
+@Table(name = "event_stats_hourly")
+@IdClass(EventStatsHourly.Key.class)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class EventStatsHourly {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    @Column(name = "bucket_start")
+    private Instant bucketStart;
+
+    @Column(nullable = false)
+    private Integer registrations;
+
+    @Column(nullable = false)
+    private Integer cancellations;
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long eventId;
+        private Instant bucketStart;
+    }
+}
@@ -0,0 +1,50 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "notification_outbox")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    // null means every confirmed attendee of the event; the dispatcher replaces such a row by
+    // one row per attendee when it claims it
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private Type type;
+
+    @Column(name = "event_title")
+    private String eventTitle;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    // claim lease or retry backoff; null means the row can be claimed now
+    @Column(name = "available_at")
+    private Instant availableAt;
+
+    public enum Type {
+        EVENT_UPDATED, EVENT_CANCELLED, REGISTRATION_CONFIRMED, REGISTRATION_CANCELLED, WAITLISTED, WAITLIST_PROMOTED,
+        EVENT_REMINDER
+    }
+}
@@ -1,5 +1,37 @@
 package com.eventmate.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "registrations",
+       uniqueConstraints = @UniqueConstraint(name = "uq_registration_event_user", columnNames = {"event_id", "user_id"}))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
 public class Registration {
-    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "cancelled_at")
+    private Instant cancelledAt;
+
+    public enum Status {
+        CONFIRMED, WAITLISTED, CANCELLED
+    }
 }
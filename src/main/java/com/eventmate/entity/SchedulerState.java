@@ -0,0 +1,19 @@
+package com.eventmate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// How far a background job has got, so a restart continues where it stopped.
+@Entity
+@Table(name = "scheduler_state")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SchedulerState {
+    @Id
+    private String name;
+
+    @Column(name = "high_water", nullable = false)
+    private Instant highWater;
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
+import java.time.Instant;
+
 @Entity
 @Table(name = "users")
 @Getter @Setter
@@ -27,6 +29,14 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // signed into the calendar feed URL; incremented to revoke it
+    @Column(name = "calendar_token_version", nullable = false)
+    private int calendarTokenVersion;
+
+    // end of the latest occurrence of any of their series; only moves forward
+    @Column(name = "series_end")
+    private Instant seriesEnd;
+
     public enum Role {
         ORGANIZER, ATTENDEE
     }
@@ -0,0 +1,17 @@
+package com.eventmate.exception;
+
+/**
+ * An expected conflict with the current state (overlapping times, a repeated registration),
+ * answered with 409. It is control flow rather than a fault, so no stack trace is captured.
+ */
+public class ConflictException extends IllegalStateException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,60 +1,85 @@
 package com.eventmate.exception;
 
+import com.eventmate.dto.ProblemResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+/**
+ * Maps exceptions to {@link ProblemResponse} bodies. Expected failures are cheap to report:
+ * the body is one record, and {@link ConflictException} and {@link InvalidCredentialsException}
+ * skip capturing a stack trace.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Object> handleValidationErrors(MethodArgumentNotValidException ex, WebRequest request) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", Instant.now().toString());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("error", "Validation Failed");
-        body.put("message", ex.getBindingResult().getFieldErrors().stream()
+    public ResponseEntity<ProblemResponse> handleValidationErrors(MethodArgumentNotValidException ex, WebRequest request) {
+        String detail = ex.getBindingResult().getFieldErrors().stream()
                 .map(err -> err.getField() + ": " + err.getDefaultMessage())
-                .collect(Collectors.joining(", ")));
-        body.put("path", request.getDescription(false));
-        return ResponseEntity.badRequest().body(body);
+                .collect(Collectors.joining(", "));
+        return problem(HttpStatus.BAD_REQUEST, detail, request);
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ProblemResponse> handleInvalidCredentials(InvalidCredentialsException ex, WebRequest request) {
+        return problem(HttpStatus.UNAUTHORIZED, ex.getMessage(), request);
     }
 
     @ExceptionHandler(SecurityException.class)
-    public ResponseEntity<Object> handleSecurity(SecurityException ex, WebRequest request) {
-        return buildResponse(ex, HttpStatus.FORBIDDEN, request);
+    public ResponseEntity<ProblemResponse> handleSecurity(SecurityException ex, WebRequest request) {
+        return problem(HttpStatus.FORBIDDEN, ex.getMessage(), request);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Object> handleBadRequest(IllegalArgumentException ex, WebRequest request) {
-        return buildResponse(ex, HttpStatus.BAD_REQUEST, request);
+    public ResponseEntity<ProblemResponse> handleBadRequest(IllegalArgumentException ex, WebRequest request) {
+        return problem(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
     @ExceptionHandler(IllegalStateException.class)
-    public ResponseEntity<Object> handleConflict(IllegalStateException ex, WebRequest request) {
-        return buildResponse(ex, HttpStatus.CONFLICT, request);
+    public ResponseEntity<ProblemResponse> handleConflict(IllegalStateException ex, WebRequest request) {
+        return problem(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemResponse> handleConcurrentUpdate(OptimisticLockingFailureException ex, WebRequest request) {
+        return problem(HttpStatus.CONFLICT, "Event was modified concurrently, please retry", request);
+    }
+
+    // Thrown when the password hashing pool or the database limiter is saturated; the client should back off briefly.
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ProblemResponse> handleOverload(RejectedExecutionException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(ProblemResponse.MEDIA_TYPE)
+                .body(ProblemResponse.of(HttpStatus.TOO_MANY_REQUESTS, "Server is busy, please retry", path(request)));
     }
 
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<Object> handleGeneric(RuntimeException ex, WebRequest request) {
-        return buildResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR, request);
-    }
-
-    private ResponseEntity<Object> buildResponse(Exception ex, HttpStatus status, WebRequest request) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", Instant.now().toString());
-        body.put("status", status.value());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", ex.getMessage());
-        body.put("path", request.getDescription(false));
-        return ResponseEntity.status(status).body(body);
+    public ResponseEntity<ProblemResponse> handleGeneric(RuntimeException ex, WebRequest request) {
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), request);
+    }
+
+    private static ResponseEntity<ProblemResponse> problem(HttpStatus status, String detail, WebRequest request) {
+        return ResponseEntity.status(status)
+                .contentType(ProblemResponse.MEDIA_TYPE)
+                .body(ProblemResponse.of(status, detail, path(request)));
+    }
+
+    // The servlet's own URI string; WebRequest.getDescription would build a new "uri=..." string.
+    private static String path(WebRequest request) {
+        HttpServletRequest servlet = request instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeRequest(HttpServletRequest.class) : null;
+        return servlet != null ? servlet.getRequestURI() : null;
     }
 }
@@ -0,0 +1,9 @@
+package com.eventmate.exception;
+
+/** Wrong email or password, answered with 401. Thrown on every failed login, so it carries no stack trace. */
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException() {
+        super("Invalid credentials", null, false, false);
+    }
+}
@@ -0,0 +1,49 @@
+package com.eventmate.repository;
+
+import com.eventmate.dto.EventResponse;
+import com.eventmate.entity.ArchivedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long>, ArchivedEventRepositoryCustom {
+
+    @Modifying
+    @Query("""
+        insert into ArchivedEvent (id, title, description, location, startTime, endTime, capacity, booked,
+                                   createdBy, createdAt, seriesId, version, archivedAt)
+        select e.id, e.title, e.description, e.location, e.startTime, e.endTime, e.capacity, e.booked,
+               e.createdBy, e.createdAt, e.seriesId, e.version, :now
+        from Event e
+        where e.id in :ids
+        """)
+    int archive(@Param("ids") Collection<Long> eventIds, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        insert into ArchivedRegistration (id, eventId, userId, status, createdAt, cancelledAt, eventStart)
+        select r.id, r.eventId, r.userId, r.status, r.createdAt, r.cancelledAt, e.startTime
+        from Registration r, Event e
+        where e.id = r.eventId and r.eventId in :ids
+        """)
+    int archiveRegistrations(@Param("ids") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("update ArchivedEvent a set a.deletedAt = :now where a.id in :ids")
+    int markDeleted(@Param("ids") Collection<Long> eventIds, @Param("now") Instant now);
+
+    // Deleted events stay out of reads, as they did when deletes removed the row.
+    @Query("""
+        select new com.eventmate.dto.EventResponse(
+            a.id, a.title, a.description, a.location, a.startTime, a.endTime,
+            a.capacity, a.createdBy, a.createdAt, a.version, a.seriesId)
+        from ArchivedEvent a
+        where a.id = :id and a.deletedAt is null
+        """)
+    Optional<EventResponse> findResponseById(@Param("id") Long id);
+}
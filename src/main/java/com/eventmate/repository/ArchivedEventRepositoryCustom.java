@@ -0,0 +1,7 @@
+package com.eventmate.repository;
+
+public interface ArchivedEventRepositoryCustom {
+
+    // Creates the events_archive and registrations_archive partitions for one calendar year (UTC) if missing.
+    void createPartitions(int year);
+}
@@ -0,0 +1,20 @@
+package com.eventmate.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class ArchivedEventRepositoryImpl implements ArchivedEventRepositoryCustom {
+
+    private static final String PARTITION =
+            "create table if not exists %1$s_%2$d partition of %1$s for values from ('%2$d-01-01') to ('%3$d-01-01')";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void createPartitions(int year) {
+        for (String table : new String[] {"events_archive", "registrations_archive"}) {
+            entityManager.createNativeQuery(PARTITION.formatted(table, year, year + 1)).executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.ArchivedRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArchivedRegistrationRepository extends JpaRepository<ArchivedRegistration, Long> {
+}
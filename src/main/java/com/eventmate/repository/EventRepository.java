@@ -1,30 +1,145 @@
 package com.eventmate.repository;
 
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.SeatAvailability;
 import com.eventmate.entity.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
 
-    // Find events for an organizer that overlap with the given times.
+    // Ids of events for an organizer that overlap with the given times.
     @Query("""
-        select e from Event e
+        select e.id from Event e
         where e.createdBy = :organizerId
           and e.id <> coalesce(:excludeId, -1)
           and (
                (e.startTime < :endTime and e.endTime > :startTime)
           )
         """)
-    List<Event> findOverlappingEvents(
+    List<Long> findOverlappingIds(
             @Param("organizerId") Long organizerId,
             @Param("startTime") Instant startTime,
             @Param("endTime") Instant endTime,
-            @Param("excludeId") Long excludeId
+            @Param("excludeId") Long excludeId,
+            Limit limit
     );
 
+    // Existence only: reads at most one id instead of materializing the overlapping events.
+    default boolean existsOverlappingEvent(Long organizerId, Instant startTime, Instant endTime, Long excludeId) {
+        return !findOverlappingIds(organizerId, startTime, endTime, excludeId, Limit.of(1)).isEmpty();
+    }
+
     List<Event> findByCreatedBy(Long organizerId);
+
+    // Forward-only cursor for exports: rows arrive in fetch-size chunks and are never
+    // attached to the persistence context. Must be consumed inside a transaction.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new com.eventmate.dto.EventResponse(
+            e.id, e.title, e.description, e.location, e.startTime, e.endTime,
+            e.capacity, e.createdBy, e.createdAt, e.version, e.seriesId)
+        from Event e
+        where e.createdBy = :organizerId
+        order by e.id
+        """)
+    Stream<EventResponse> streamByCreatedBy(@Param("organizerId") Long organizerId);
+
+    @Query("""
+        select new com.eventmate.repository.EventSlot(e.startTime, e.endTime)
+        from Event e
+        where e.createdBy = :organizerId
+          and e.startTime < :to and e.endTime > :from
+        order by e.startTime
+        """)
+    List<EventSlot> findSlots(@Param("organizerId") Long organizerId,
+                              @Param("from") Instant from,
+                              @Param("to") Instant to);
+
+    @Query("""
+        select new com.eventmate.dto.EventResponse(
+            e.id, e.title, e.description, e.location, e.startTime, e.endTime,
+            e.capacity, e.createdBy, e.createdAt, e.version, e.seriesId)
+        from Event e
+        where e.id = :id
+        """)
+    Optional<EventResponse> findResponseById(@Param("id") Long id);
+
+    // Range scan of idx_events_start_end; used to plan reminders for the next window.
+    @Query("select e.startTime from Event e where e.startTime > :from and e.startTime <= :to")
+    List<Instant> findStartTimes(@Param("from") Instant from, @Param("to") Instant to);
+
+    // Events that ended before the cutoff, oldest first (end > start, so the start bound keeps this a
+    // range scan on idx_events_start_end). Locked rows are skipped (lock timeout -2): they are being
+    // registered for or edited, and are picked up on the next run.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select e from Event e
+        where e.startTime < :cutoff and e.endTime < :cutoff
+        order by e.startTime, e.id
+        """)
+    List<Event> claimEnded(@Param("cutoff") Instant cutoff, Pageable batch);
+
+    @Query("""
+        select new com.eventmate.repository.OccurrenceKey(e.seriesId, e.startTime)
+        from Event e
+        where e.seriesId in :seriesIds and e.startTime >= :from and e.startTime < :before
+        """)
+    List<OccurrenceKey> findMaterialized(@Param("seriesIds") Collection<Long> seriesIds,
+                                         @Param("from") Instant from,
+                                         @Param("before") Instant before);
+
+    @Query("select e.id from Event e where e.seriesId = :seriesId and e.startTime = :startTime")
+    Optional<Long> findOccurrenceId(@Param("seriesId") Long seriesId, @Param("startTime") Instant startTime);
+
+    @Query("""
+        select new com.eventmate.dto.EventResponse(
+            e.id, e.title, e.description, e.location, e.startTime, e.endTime,
+            e.capacity, e.createdBy, e.createdAt, e.version, e.seriesId)
+        from Event e
+        where e.seriesId = :seriesId and e.startTime >= :from and e.startTime < :before
+        """)
+    List<EventResponse> findOccurrences(@Param("seriesId") Long seriesId,
+                                        @Param("from") Instant from,
+                                        @Param("before") Instant before);
+
+    @Query("""
+        select new com.eventmate.dto.SeatAvailability(e.id, e.capacity, e.booked, e.capacity - e.booked)
+        from Event e
+        where e.id in :ids
+        """)
+    List<SeatAvailability> findSeats(@Param("ids") Collection<Long> eventIds);
+
+    // Takes a seat only while one is left. Returns 0 when the event is full or missing.
+    @Modifying
+    @Query("update Event e set e.booked = e.booked + 1 where e.id = :id and e.booked < e.capacity")
+    int reserveSeat(@Param("id") Long eventId);
+
+    @Modifying
+    @Query("update Event e set e.booked = e.booked - 1 where e.id = :id and e.booked > 0")
+    int releaseSeat(@Param("id") Long eventId);
+
+    // No-op write that takes the event row lock until commit. Returns 0 when the event is missing.
+    @Modifying
+    @Query("update Event e set e.booked = e.booked where e.id = :id")
+    int lockSeats(@Param("id") Long eventId);
 }
@@ -0,0 +1,19 @@
+package com.eventmate.repository;
+
+import com.eventmate.dto.EventCursor;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.EventSearchHit;
+import com.eventmate.dto.SearchCursor;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EventRepositoryCustom {
+
+    // Seek-paginated listing ordered by (startTime, id); only rows after the cursor are read.
+    List<EventResponse> findPage(EventFilter filter, EventCursor after, int limit);
+
+    // Matches starting at or after {@code from}, best rank first, then by id.
+    List<EventSearchHit> search(String query, Instant from, SearchCursor after, int limit);
+}
@@ -0,0 +1,229 @@
+package com.eventmate.repository;
+
+import com.eventmate.dto.EventCursor;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.EventSearchHit;
+import com.eventmate.dto.SearchCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class EventRepositoryImpl implements EventRepositoryCustom {
+
+    // Ranks every match, keeps one page, then builds headlines for that page only.
+    private static final String FULL_TEXT_SEARCH = """
+        select page.id, page.title, page.description, page.location, page.start_time, page.end_time,
+               page.capacity, page.created_by, page.created_at, page.version, page.series_id, page.rank,
+               ts_headline('english', translate(coalesce(page.description, page.title), :selectors, ''),
+                           page.query, :headline) as snippet
+        from (
+            select e.id, e.title, e.description, e.location, e.start_time, e.end_time,
+                   e.capacity, e.created_by, e.created_at, e.version, e.series_id,
+                   ts_rank(e.search_vector, q.query) as rank, q.query
+            from events e, websearch_to_tsquery('english', :q) as q(query)
+            where e.search_vector @@ q.query and e.start_time >= :from
+            %s
+            order by rank desc, e.id
+            limit :limit
+        ) page
+        order by page.rank desc, page.id
+        """;
+    private static final String AFTER_CURSOR = """
+        and (ts_rank(e.search_vector, q.query) < :afterRank
+             or (ts_rank(e.search_vector, q.query) = :afterRank and e.id > :afterId))
+        """;
+    // ts_headline marks matches with control characters, stripped from the text beforehand, so the
+    // text can be HTML-escaped before they become <mark> tags.
+    private static final String START_SEL = "\u0002";
+    private static final String STOP_SEL = "\u0003";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL
+            + ", MaxWords=35, MinWords=15, MaxFragments=2, FragmentDelimiter=\" … \"";
+
+    // Same relative weights as Postgres' default for A, B and C labels.
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float LOCATION_WEIGHT = 0.4f;
+    private static final float DESCRIPTION_WEIGHT = 0.2f;
+    private static final int SNIPPET_LENGTH = 160;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${eventmate.search.full-text:false}")
+    private boolean fullText;
+
+    @Override
+    public List<EventResponse> findPage(EventFilter filter, EventCursor after, int limit) {
+        // Only the predicates that are actually set go into the query, so each filter
+        // combination maps onto one of the (…, start_time, id) indexes.
+        StringBuilder jpql = new StringBuilder("""
+            select new com.eventmate.dto.EventResponse(
+                e.id, e.title, e.description, e.location, e.startTime, e.endTime,
+                e.capacity, e.createdBy, e.createdAt, e.version, e.seriesId)
+            from Event e
+            where 1 = 1
+            """);
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.organizerId() != null) {
+            jpql.append(" and e.createdBy = :organizerId");
+            params.put("organizerId", filter.organizerId());
+        }
+        if (filter.location() != null) {
+            jpql.append(" and e.location = :location");
+            params.put("location", filter.location());
+        }
+        if (filter.from() != null) {
+            jpql.append(" and e.startTime >= :from");
+            params.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            jpql.append(" and e.startTime < :to");
+            params.put("to", filter.to());
+        }
+        if (after != null) {
+            // the redundant >= bound gives the planner a range start on the index
+            jpql.append(" and e.startTime >= :afterStart")
+                .append(" and (e.startTime > :afterStart or (e.startTime = :afterStart and e.id > :afterId))");
+            params.put("afterStart", after.startTime());
+            params.put("afterId", after.id());
+        }
+        jpql.append(" order by e.startTime, e.id");
+
+        TypedQuery<EventResponse> query = entityManager.createQuery(jpql.toString(), EventResponse.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<EventSearchHit> search(String query, Instant from, SearchCursor after, int limit) {
+        return fullText ? fullTextSearch(query, from, after, limit) : scanSearch(query, from, after, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<EventSearchHit> fullTextSearch(String text, Instant from, SearchCursor after, int limit) {
+        Query query = entityManager.createNativeQuery(FULL_TEXT_SEARCH.formatted(after == null ? "" : AFTER_CURSOR));
+        query.unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("description", StandardBasicTypes.STRING)
+                .addScalar("location", StandardBasicTypes.STRING)
+                .addScalar("start_time", StandardBasicTypes.INSTANT)
+                .addScalar("end_time", StandardBasicTypes.INSTANT)
+                .addScalar("capacity", StandardBasicTypes.INTEGER)
+                .addScalar("created_by", StandardBasicTypes.LONG)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("series_id", StandardBasicTypes.LONG)
+                .addScalar("rank", StandardBasicTypes.FLOAT)
+                .addScalar("snippet", StandardBasicTypes.STRING);
+        query.setParameter("q", text)
+                .setParameter("from", from)
+                .setParameter("headline", HEADLINE_OPTIONS)
+                .setParameter("selectors", START_SEL + STOP_SEL)
+                .setParameter("limit", limit);
+        if (after != null) {
+            query.setParameter("afterRank", after.rank()).setParameter("afterId", after.id());
+        }
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(r -> new EventSearchHit(
+                        new EventResponse((Long) r[0], (String) r[1], (String) r[2], (String) r[3],
+                                (Instant) r[4], (Instant) r[5], (Integer) r[6], (Long) r[7], (Instant) r[8], (Long) r[9],
+                                (Long) r[10]),
+                        (Float) r[11], markHeadline((String) r[12])))
+                .toList();
+    }
+
+    /**
+     * Fallback for databases without tsvector (the H2 test profile): every term must appear in
+     * one of the fields, matched with LIKE, and ranking and snippets are computed here. This
+     * scans the table, so it only suits small data sets.
+     */
+    private List<EventSearchHit> scanSearch(String text, Instant from, SearchCursor after, int limit) {
+        List<String> terms = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder jpql = new StringBuilder("""
+            select new com.eventmate.dto.EventResponse(
+                e.id, e.title, e.description, e.location, e.startTime, e.endTime,
+                e.capacity, e.createdBy, e.createdAt, e.version, e.seriesId)
+            from Event e
+            where e.startTime >= :from
+            """);
+        for (int i = 0; i < terms.size(); i++) {
+            jpql.append(" and (lower(e.title) like :t%1$d or lower(e.location) like :t%1$d or lower(e.description) like :t%1$d)"
+                    .formatted(i));
+        }
+        TypedQuery<EventResponse> query = entityManager.createQuery(jpql.toString(), EventResponse.class)
+                .setParameter("from", from);
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("t" + i, "%" + terms.get(i) + "%");
+        }
+
+        Pattern highlight = Pattern.compile(terms.stream().map(Pattern::quote).collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        return query.getResultList().stream()
+                .map(e -> new EventSearchHit(e, rank(e, terms), null))
+                .filter(hit -> after == null || hit.rank() < after.rank()
+                        || (hit.rank() == after.rank() && hit.event().id() > after.id()))
+                .sorted(Comparator.comparing(EventSearchHit::rank).reversed()
+                        .thenComparing(hit -> hit.event().id()))
+                .limit(limit)
+                .map(hit -> new EventSearchHit(hit.event(), hit.rank(), snippet(hit.event(), highlight)))
+                .toList();
+    }
+
+    private static float rank(EventResponse e, List<String> terms) {
+        float rank = 0;
+        for (String term : terms) {
+            if (contains(e.title(), term)) rank += TITLE_WEIGHT;
+            if (contains(e.location(), term)) rank += LOCATION_WEIGHT;
+            if (contains(e.description(), term)) rank += DESCRIPTION_WEIGHT;
+        }
+        return rank / terms.size();
+    }
+
+    private static boolean contains(String field, String term) {
+        return field != null && field.toLowerCase(Locale.ROOT).contains(term);
+    }
+
+    private static String snippet(EventResponse e, Pattern highlight) {
+        String source = e.description() != null ? e.description() : e.title();
+        Matcher first = highlight.matcher(source);
+        int start = first.find() ? Math.max(0, first.start() - SNIPPET_LENGTH / 4) : 0;
+        int end = Math.min(source.length(), start + SNIPPET_LENGTH);
+        String window = (start > 0 ? "… " : "") + source.substring(start, end) + (end < source.length() ? " …" : "");
+        StringBuilder marked = new StringBuilder(window.length() + 32);
+        Matcher match = highlight.matcher(window);
+        int last = 0;
+        while (match.find()) {
+            marked.append(HtmlUtils.htmlEscape(window.substring(last, match.start())))
+                    .append("<mark>").append(HtmlUtils.htmlEscape(match.group())).append("</mark>");
+            last = match.end();
+        }
+        return marked.append(HtmlUtils.htmlEscape(window.substring(last))).toString();
+    }
+
+    private static String markHeadline(String headline) {
+        if (headline == null) return null;
+        return HtmlUtils.htmlEscape(headline).replace(START_SEL, "<mark>").replace(STOP_SEL, "</mark>");
+    }
+}
@@ -0,0 +1,32 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.EventSeries;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventSeriesRepository extends JpaRepository<EventSeries, Long> {
+
+    // Series that may have an occurrence in [from, before); their rules are expanded in memory.
+    @Query("""
+        select distinct s from EventSeries s left join fetch s.exdates
+        where s.lastEnd > :from and s.firstStart < :before
+          and (:organizerId is null or s.createdBy = :organizerId)
+          and (:location is null or s.location = :location)
+        """)
+    List<EventSeries> findActive(@Param("organizerId") Long organizerId,
+                                 @Param("location") String location,
+                                 @Param("from") Instant from,
+                                 @Param("before") Instant before);
+
+    // Serializes materializing and cancelling occurrences of one series.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from EventSeries s where s.id = :id")
+    Optional<EventSeries> findForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,6 @@
+package com.eventmate.repository;
+
+import java.time.Instant;
+
+// Time range of an existing event, read without loading the entity.
+public record EventSlot(Instant startTime, Instant endTime) {}
@@ -0,0 +1,21 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.EventStatsDelta;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface EventStatsDeltaRepository extends JpaRepository<EventStatsDelta, Long> {
+
+    // SKIP LOCKED, as for the outbox: concurrent flushes on several instances take disjoint rows.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select d from EventStatsDelta d order by d.id")
+    List<EventStatsDelta> claim(Pageable batch);
+}
@@ -0,0 +1,44 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.EventStatsHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EventStatsHourlyRepository extends JpaRepository<EventStatsHourly, EventStatsHourly.Key> {
+
+    @Modifying
+    @Query("""
+        update EventStatsHourly h
+        set h.registrations = h.registrations + :registrations,
+            h.cancellations = h.cancellations + :cancellations
+        where h.eventId = :eventId and h.bucketStart = :bucketStart
+        """)
+    int add(@Param("eventId") Long eventId,
+            @Param("bucketStart") Instant bucketStart,
+            @Param("registrations") int registrations,
+            @Param("cancellations") int cancellations);
+
+    @Modifying
+    @Query("""
+        insert into EventStatsHourly (eventId, bucketStart, registrations, cancellations)
+        values (:eventId, :bucketStart, :registrations, :cancellations)
+        """)
+    int insert(@Param("eventId") Long eventId,
+               @Param("bucketStart") Instant bucketStart,
+               @Param("registrations") int registrations,
+               @Param("cancellations") int cancellations);
+
+    @Query("""
+        select h from EventStatsHourly h
+        where h.eventId = :eventId and h.bucketStart >= :from and h.bucketStart <= :to
+        order by h.bucketStart
+        """)
+    List<EventStatsHourly> findRange(@Param("eventId") Long eventId,
+                                     @Param("from") Instant from,
+                                     @Param("to") Instant to);
+}
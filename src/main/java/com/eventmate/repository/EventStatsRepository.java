@@ -0,0 +1,35 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.EventStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// Counters are only added to, never overwritten, so several instances can flush into the same row.
+public interface EventStatsRepository extends JpaRepository<EventStats, Long> {
+
+    @Modifying
+    @Query("""
+        update EventStats s
+        set s.waitlisted = s.waitlisted + :waitlisted,
+            s.registrations = s.registrations + :registrations,
+            s.cancellations = s.cancellations + :cancellations
+        where s.eventId = :eventId
+        """)
+    int add(@Param("eventId") Long eventId,
+            @Param("waitlisted") int waitlisted,
+            @Param("registrations") long registrations,
+            @Param("cancellations") long cancellations);
+
+    // Fails on the primary key when another instance created the row first; callers retry add().
+    @Modifying
+    @Query("""
+        insert into EventStats (eventId, waitlisted, registrations, cancellations)
+        values (:eventId, :waitlisted, :registrations, :cancellations)
+        """)
+    int insert(@Param("eventId") Long eventId,
+               @Param("waitlisted") int waitlisted,
+               @Param("registrations") long registrations,
+               @Param("cancellations") long cancellations);
+}
@@ -0,0 +1,55 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    // Fails on the primary key when the key is already claimed or answered.
+    @Modifying
+    @Query("""
+        insert into IdempotencyRecord (userId, idempotencyKey, createdAt, expiresAt)
+        values (:userId, :key, :now, :leaseUntil)
+        """)
+    int claim(@Param("userId") Long userId, @Param("key") String key,
+              @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    // Takes over a row whose stored response or abandoned claim has expired.
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+        set r.requestHash = null, r.statusCode = null, r.contentType = null, r.location = null, r.body = null,
+            r.createdAt = :now, r.expiresAt = :leaseUntil
+        where r.userId = :userId and r.idempotencyKey = :key and r.expiresAt <= :now
+        """)
+    int reclaimExpired(@Param("userId") Long userId, @Param("key") String key,
+                       @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+        set r.requestHash = :requestHash, r.statusCode = :statusCode, r.contentType = :contentType,
+            r.location = :location, r.body = :body, r.expiresAt = :expiresAt
+        where r.userId = :userId and r.idempotencyKey = :key and r.statusCode is null
+        """)
+    int complete(@Param("userId") Long userId, @Param("key") String key,
+                 @Param("requestHash") byte[] requestHash, @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType, @Param("location") String location,
+                 @Param("body") byte[] body, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("""
+        delete from IdempotencyRecord r
+        where r.userId = :userId and r.idempotencyKey = :key and r.statusCode is null
+        """)
+    int release(@Param("userId") Long userId, @Param("key") String key);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
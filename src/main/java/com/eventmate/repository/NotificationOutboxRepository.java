@@ -0,0 +1,87 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // Lock timeout -2 is SKIP LOCKED: concurrent dispatchers claim disjoint batches. The lock only
+    // lasts until leaseClaimed commits; the lease then keeps other dispatchers off the rows.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select o from NotificationOutbox o
+        where o.processedAt is null and o.createdAt < :cutoff
+          and (o.availableAt is null or o.availableAt <= :now)
+        order by o.id
+        """)
+    List<NotificationOutbox> claimPending(@Param("cutoff") Instant cutoff, @Param("now") Instant now, Pageable batch);
+
+    @Modifying
+    @Query("update NotificationOutbox o set o.availableAt = :until where o.id in :ids")
+    int leaseClaimed(@Param("ids") Collection<Long> ids, @Param("until") Instant until);
+
+    // One row per confirmed or waitlisted attendee, captured before the registrations disappear with the event.
+    @Modifying
+    @Query("""
+        insert into NotificationOutbox (eventId, userId, type, eventTitle, attempts, createdAt)
+        select r.eventId, r.userId, :type, :title, 0, :now
+        from Registration r
+        where r.eventId = :eventId and r.status in (com.eventmate.entity.Registration.Status.CONFIRMED,
+                                                    com.eventmate.entity.Registration.Status.WAITLISTED)
+        """)
+    int enqueueForAttendees(@Param("eventId") Long eventId,
+                            @Param("type") NotificationOutbox.Type type,
+                            @Param("title") String title,
+                            @Param("now") Instant now);
+
+    // Replaces an event-wide row by one row per confirmed attendee, so each delivery succeeds or
+    // is retried on its own. Keeps the original createdAt, and with it the row's coalesce window.
+    @Modifying
+    @Query("""
+        insert into NotificationOutbox (eventId, userId, type, eventTitle, attempts, createdAt)
+        select o.eventId, r.userId, o.type, o.eventTitle, 0, o.createdAt
+        from NotificationOutbox o
+        join Registration r on r.eventId = o.eventId
+        where o.id = :id and r.status = com.eventmate.entity.Registration.Status.CONFIRMED
+        """)
+    int expandToAttendees(@Param("id") Long id);
+
+    // One row per event starting in (from, to] and still upcoming; attendees are resolved at dispatch.
+    @Modifying
+    @Query("""
+        insert into NotificationOutbox (eventId, type, eventTitle, attempts, createdAt)
+        select e.id, com.eventmate.entity.NotificationOutbox.Type.EVENT_REMINDER, e.title, 0, :now
+        from Event e
+        where e.startTime > :from and e.startTime <= :to and e.startTime > :now
+        """)
+    int enqueueReminders(@Param("from") Instant from, @Param("to") Instant to, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update NotificationOutbox o set o.processedAt = :now where o.id in :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    // Failed rows are retried from retryAt until maxAttempts, then parked as processed.
+    @Modifying
+    @Query("""
+        update NotificationOutbox o
+        set o.attempts = o.attempts + 1,
+            o.availableAt = :retryAt,
+            o.processedAt = case when o.attempts + 1 >= :maxAttempts then :now else o.processedAt end
+        where o.id in :ids
+        """)
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                   @Param("now") Instant now, @Param("retryAt") Instant retryAt);
+}
@@ -0,0 +1,6 @@
+package com.eventmate.repository;
+
+import java.time.Instant;
+
+// A series occurrence that already has an events row.
+public record OccurrenceKey(Long seriesId, Instant startTime) {}
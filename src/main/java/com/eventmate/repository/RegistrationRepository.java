@@ -1,5 +1,109 @@
 package com.eventmate.repository;
 
-public class RegistrationRepository {
-    
+import com.eventmate.dto.RegistrationExportRow;
+import com.eventmate.dto.ScheduleEntry;
+import com.eventmate.entity.Registration;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface RegistrationRepository extends JpaRepository<Registration, Long> {
+
+    Optional<Registration> findByEventIdAndUserId(Long eventId, Long userId);
+
+    List<Registration> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // Everything the user is booked or waitlisted for, past and upcoming; loads UserCalendarIndex.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+        select new com.eventmate.dto.ScheduleEntry(e.id, e.title, e.location, e.startTime, e.endTime, r.status)
+        from Registration r
+        join Event e on e.id = r.eventId
+        where r.userId = :userId and r.status <> com.eventmate.entity.Registration.Status.CANCELLED
+        """)
+    List<ScheduleEntry> findSchedule(@Param("userId") Long userId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new com.eventmate.dto.RegistrationExportRow(
+            r.id, r.eventId, e.title, r.userId, u.name, u.email, r.status, r.createdAt, r.cancelledAt)
+        from Registration r
+        join Event e on e.id = r.eventId
+        join User u on u.id = r.userId
+        where e.createdBy = :organizerId
+        order by r.eventId, r.id
+        """)
+    Stream<RegistrationExportRow> streamForOrganizer(@Param("organizerId") Long organizerId);
+
+    // Status transitions are conditional so concurrent duplicates only take effect once.
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Registration r
+        set r.status = com.eventmate.entity.Registration.Status.CONFIRMED, r.createdAt = :now, r.cancelledAt = null
+        where r.id = :id and r.status = com.eventmate.entity.Registration.Status.CANCELLED
+        """)
+    int reactivate(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Registration r
+        set r.status = com.eventmate.entity.Registration.Status.CANCELLED, r.cancelledAt = :now
+        where r.id = :id and r.status = com.eventmate.entity.Registration.Status.CONFIRMED
+        """)
+    int cancel(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Registration r
+        set r.status = com.eventmate.entity.Registration.Status.CANCELLED, r.cancelledAt = :now
+        where r.id = :id and r.status = com.eventmate.entity.Registration.Status.WAITLISTED
+        """)
+    int leaveWaitlist(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Registration r
+        set r.status = com.eventmate.entity.Registration.Status.WAITLISTED
+        where r.id = :id and r.status = com.eventmate.entity.Registration.Status.CONFIRMED
+        """)
+    int moveToWaitlist(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Registration r
+        set r.status = com.eventmate.entity.Registration.Status.CONFIRMED
+        where r.id = :id and r.status = com.eventmate.entity.Registration.Status.WAITLISTED
+        """)
+    int promote(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Registration r where r.eventId in :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // Head of the waitlist, first come first served. SKIP LOCKED (lock timeout -2) lets concurrent
+    // cancellations each claim a different waitlisted row instead of queueing on the first one.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        select r from Registration r
+        where r.eventId = :eventId and r.status = com.eventmate.entity.Registration.Status.WAITLISTED
+        order by r.createdAt, r.id
+        """)
+    List<Registration> claimWaitlisted(@Param("eventId") Long eventId, Pageable limit);
 }
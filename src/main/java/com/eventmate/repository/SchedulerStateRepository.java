@@ -0,0 +1,18 @@
+package com.eventmate.repository;
+
+import com.eventmate.entity.SchedulerState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface SchedulerStateRepository extends JpaRepository<SchedulerState, String> {
+
+    // Instances running the same job take turns on this row.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SchedulerState s where s.name = :name")
+    Optional<SchedulerState> findForUpdate(@Param("name") String name);
+}
@@ -1,10 +1,46 @@
 package com.eventmate.repository;
 
 import com.eventmate.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Serializes an organizer's overlap-checked writes: check and insert happen under this row lock.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findForUpdate(@Param("id") Long id);
+
+    // Conflicts with findForUpdate but not with itself: holders only wait for a series being created.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findForShare(@Param("id") Long id);
+
+    @Modifying
+    @Query("update User u set u.seriesEnd = :end where u.id = :id and (u.seriesEnd is null or u.seriesEnd < :end)")
+    int extendSeriesEnd(@Param("id") Long id, @Param("end") Instant end);
+
+    // Compare-and-set so a rehash never overwrites a password changed in the meantime.
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Query("select u.calendarTokenVersion from User u where u.id = :id")
+    Optional<Integer> findCalendarTokenVersion(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.calendarTokenVersion = u.calendarTokenVersion + 1 where u.id = :id")
+    int rotateCalendarToken(@Param("id") Long id);
 }
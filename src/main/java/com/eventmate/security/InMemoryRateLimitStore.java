@@ -0,0 +1,50 @@
+package com.eventmate.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets kept as a single "theoretical arrival time" per key (the GCRA form of a token
+ * bucket), so a bucket is one AtomicLong updated with CAS and never locked. Keys idle longer
+ * than the eviction window are dropped; the window should exceed the longest refill time, as
+ * an evicted bucket comes back full.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoTime;
+
+    public InMemoryRateLimitStore(Duration idleEviction, long maxKeys) {
+        this(idleEviction, maxKeys, System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(Duration idleEviction, long maxKeys, LongSupplier nanoTime) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleEviction)
+                .maximumSize(maxKeys)
+                .build();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public long tryAcquire(String key, long intervalNanos, int burst) {
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = nanoTime.getAsLong();
+            long current = arrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - intervalNanos * burst;
+            if (wait > 0) return wait;
+            if (arrival.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
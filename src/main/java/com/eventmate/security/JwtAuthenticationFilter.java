@@ -1,7 +1,7 @@
 package com.eventmate.security;
 
-import com.eventmate.entity.User;
-import com.eventmate.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,7 +21,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserService userService;
+    private final TokenRevocationService revocationService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -35,20 +36,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String token = authHeader.substring(7);
+        // covers verification plus the revocation check, which stands in for the old users-table lookup
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
         try {
-            if (!jwtService.isValid(token)) {
-                filterChain.doFilter(request, response);
-                return;
+            // id and role are signed claims, so the principal is built without touching the users table
+            TokenClaims claims = jwtService.verify(token);
+            if (claims.userId() != null && !revocationService.isRevoked(claims)) {
+                // set principal as user ID (Long) so controllers can get numeric id
+                var authorities = List.of(new SimpleGrantedAuthority(claims.role()));
+                var auth = new UsernamePasswordAuthenticationToken(claims.userId(), null, authorities);
+                SecurityContextHolder.getContext().setAuthentication(auth);
+                outcome = "valid";
+            } else if (claims.userId() != null) {
+                outcome = "revoked";
             }
-            String email = jwtService.extractEmail(token);
-            User user = userService.getByEmail(email);
-            // set principal as user ID (Long) so controllers can get numeric id
-            var authorities = List.of(new SimpleGrantedAuthority(user.getRole().name()));
-            var auth = new UsernamePasswordAuthenticationToken(user.getId(), null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(auth);
         } catch (RuntimeException ex) {
             // in case of invalid token, do nothing (request will be treated as unauthenticated)
         }
+        sample.stop(meterRegistry.timer("eventmate.jwt.verify", "outcome", outcome));
 
         filterChain.doFilter(request, response);
     }
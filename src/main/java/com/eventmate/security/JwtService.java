@@ -1,44 +1,174 @@
 package com.eventmate.security;
 
 import com.eventmate.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
 @Service
 public class JwtService {
     private static final String SECRET = "SuperSecretKeyThatIsAtLeast32CharsLongForJWTs123";
     private static final long EXPIRATION_MS = 1000 * 60 * 60;
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtService::sha256);
+
     private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final Clock clock;
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser;
+    // Verified claims keyed by the SHA-256 of the token, each entry expiring with its token
+    private final Cache<ByteBuffer, TokenClaims> verified;
+
+    @Autowired
+    public JwtService(@Value("${eventmate.security.token-cache.max-size:10000}") long cacheSize) {
+        this(cacheSize, Clock.systemUTC());
+    }
+
+    // Issuing, parsing and the cache's ticker all read the same clock, so expiry can be tested.
+    JwtService(long cacheSize, Clock clock) {
+        this.clock = clock;
+        this.parser = Jwts.parser().verifyWith(key).clock(() -> Date.from(clock.instant())).build();
+        this.verified = cacheSize > 0
+                ? Caffeine.newBuilder()
+                    .maximumSize(cacheSize)
+                    .ticker(() -> epochNanos(clock.instant()))
+                    .expireAfter(new ExpireAtTokenExpiry())
+                    .build()
+                : null;
+    }
 
     public String generateToken(User user) {
         return Jwts.builder()
             .subject(user.getEmail())
-            .claim("role", user.getRole().name())
-            .issuedAt(new Date())
-            .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+            .claim(USER_ID_CLAIM, user.getId())
+            .claim(ROLE_CLAIM, user.getRole().name())
+            .issuedAt(Date.from(clock.instant()))
+            .expiration(Date.from(clock.instant().plusMillis(EXPIRATION_MS)))
             .signWith(key)
             .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of {@code token} and returns its claims.
+     * Tokens seen before are answered from the cache without repeating the crypto.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public TokenClaims verify(String token) {
+        if (verified == null) {
+            return parse(token);
+        }
+        ByteBuffer cacheKey = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+        TokenClaims cached = verified.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        TokenClaims claims = parse(token);
+        verified.put(cacheKey, claims);
+        return claims;
+    }
+
     public String extractEmail(String token) {
-        return parseClaims(token).getPayload().getSubject();
+        return verify(token).email();
     }
 
     public boolean isValid(String token) {
         try {
-            parseClaims(token);
+            verify(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
-    private Jws<Claims> parseClaims(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+    /**
+     * Secret for a user's calendar feed URL. Calendar clients poll the feed without sending
+     * headers, so this MAC of the user id stands in for a bearer token. It does not expire;
+     * bumping the user's token version (or the signing key) revokes it.
+     */
+    public String calendarFeedToken(Long userId, int version) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            byte[] tag = mac.doFinal(("calendar-feed:" + userId + ":" + version).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(tag);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign calendar feed token", e);
+        }
+    }
+
+    public boolean isCalendarFeedToken(Long userId, int version, String token) {
+        return token != null && MessageDigest.isEqual(
+                calendarFeedToken(userId, version).getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public Duration getTokenLifetime() {
+        return Duration.ofMillis(EXPIRATION_MS);
+    }
+
+    SecretKey signingKey() {
+        return key;
+    }
+
+    private TokenClaims parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new TokenClaims(
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                claims.get(ROLE_CLAIM, String.class),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    // currentTime comes from the ticker above, i.e. epoch nanoseconds of the service's clock
+    private static final class ExpireAtTokenExpiry implements Expiry<ByteBuffer, TokenClaims> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, TokenClaims claims, long currentTime) {
+            return Math.max(0, epochNanos(claims.expiresAt()) - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.eventmate.security;
+
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on a fixed pool sized to the CPU count instead of on request threads, so a
+ * login spike costs at most that many cores. When the queue is full new work is refused
+ * with {@link RejectedExecutionException} (answered with 429) rather than queued up.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int cost;
+    private final ThreadPoolExecutor pool;
+    // Checked against when the email is unknown, so that path costs the same as a wrong password.
+    private final String dummyHash;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${eventmate.security.bcrypt.cost:10}") int cost,
+                          @Value("${eventmate.security.hashing.threads:0}") int threads,
+                          @Value("${eventmate.security.hashing.queue-capacity:0}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.cost = cost;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : size * 4), task -> {
+                    Thread thread = new Thread(task, "bcrypt-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.matchesTimer = meterRegistry.timer("eventmate.password.hash", "op", "matches");
+        this.encodeTimer = meterRegistry.timer("eventmate.password.hash", "op", "encode");
+        this.rejected = meterRegistry.counter("eventmate.password.hash.rejected");
+        meterRegistry.gauge("eventmate.password.hash.queue", pool, p -> p.getQueue().size());
+        byte[] random = new byte[16];
+        new SecureRandom().nextBytes(random);
+        this.dummyHash = passwordEncoder.encode(Base64.getEncoder().encodeToString(random));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        String hash = encodedPassword != null ? encodedPassword : dummyHash;
+        return submit(() -> matchesTimer.record(
+                () -> passwordEncoder.matches(rawPassword, hash) && encodedPassword != null));
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, pool);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw ex;
+        }
+    }
+
+    // True when the stored hash was made with a different cost than the configured one.
+    public boolean needsRehash(String encodedPassword) {
+        // $2a$10$... -> cost is the two digits after the second '$'
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') return false;
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,108 @@
+package com.eventmate.security;
+
+import com.eventmate.dto.ProblemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs ahead of {@link JwtAuthenticationFilter}, so auth endpoints keyed by client IP are
+ * refused before any token or password work. User-keyed rules take the user id from the
+ * verified token (a cache hit for the JWT filter that follows); requests without a valid
+ * token fall back to their IP.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record CompiledRule(RateLimitProperties.Rule rule, PathPattern path, long intervalNanos) {}
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final RateLimitStore store;
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitStore store, JwtService jwtService,
+                           MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.enabled = properties.enabled();
+        this.rules = properties.rules().stream()
+                .map(rule -> new CompiledRule(rule, PathPatternParser.defaultInstance.parse(rule.path()),
+                        rule.per().toNanos() / rule.requests()))
+                .toList();
+        this.store = store;
+        this.jwtService = jwtService;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CompiledRule match = enabled ? match(request) : null;
+        if (match == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = match.rule();
+        String key = rule.name() + ':' + (rule.key() == RateLimitProperties.KeyType.USER ? userKey(request) : ipKey(request));
+        long waitNanos = store.tryAcquire(key, match.intervalNanos(), rule.requests());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("eventmate.ratelimit.rejected", "rule", rule.name()).increment();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(ProblemResponse.MEDIA_TYPE.toString());
+        objectMapper.writeValue(response.getOutputStream(), ProblemResponse.of(HttpStatus.TOO_MANY_REQUESTS,
+                "Rate limit exceeded, retry in " + retryAfter + "s", request.getRequestURI()));
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledRule candidate : rules) {
+            String method = candidate.rule().method();
+            if ((method == null || method.equalsIgnoreCase(request.getMethod())) && candidate.path().matches(path)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private String userKey(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            try {
+                Long userId = jwtService.verify(header.substring(7)).userId();
+                if (userId != null) return "user:" + userId;
+            } catch (RuntimeException ex) {
+                // invalid token: limited by address like any anonymous caller
+            }
+        }
+        return ipKey(request);
+    }
+
+    // The servlet container's remote address; behind a proxy enable server.forward-headers-strategy.
+    private static String ipKey(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,28 @@
+package com.eventmate.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate-limit rules, checked in order; the first rule whose method and path match applies.
+ * Each rule allows {@code requests} per {@code per}, with bursts up to {@code requests}.
+ */
+@ConfigurationProperties("eventmate.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10m") Duration idleEviction,
+    @DefaultValue("100000") long maxKeys,
+    List<Rule> rules
+) {
+    public enum KeyType { IP, USER }
+
+    /** {@code method} may be null to match any method; {@code path} is a Spring path pattern. */
+    public record Rule(String name, String method, String path, KeyType key, int requests, Duration per) {}
+
+    public List<Rule> rules() {
+        return rules != null ? rules : List.of();
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventmate.security;
+
+/**
+ * Backing state for rate-limit buckets. The in-memory implementation is per instance; a
+ * shared backend (e.g. Redis running the same arithmetic in a script) can replace it by
+ * declaring its own bean.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket under {@code key}, which refills one token every
+     * {@code intervalNanos} and holds at most {@code burst}.
+     *
+     * @return 0 when the token was granted, otherwise nanoseconds until one will be available
+     */
+    long tryAcquire(String key, long intervalNanos, int burst);
+}
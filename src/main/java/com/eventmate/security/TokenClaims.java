@@ -0,0 +1,15 @@
+package com.eventmate.security;
+
+import java.time.Instant;
+
+/**
+ * Signed claims carried by an access token. Everything the request path needs to
+ * authenticate a caller lives here, so no user lookup is required per request.
+ */
+public record TokenClaims(
+        Long userId,
+        String email,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt
+) {}
@@ -0,0 +1,60 @@
+package com.eventmate.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory deny-list for access tokens. Revoking a user rejects every token issued to
+ * them up to that moment. An entry only has to outlive the tokens it covers, so it is
+ * dropped once the token lifetime has passed.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final boolean enabled;
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenRevocationService(JwtService jwtService,
+                                  @Value("${eventmate.security.revocation.enabled:true}") boolean enabled) {
+        this(jwtService.getTokenLifetime(), enabled, Clock.systemUTC());
+    }
+
+    TokenRevocationService(Duration retention, boolean enabled, Clock clock) {
+        this.retention = retention;
+        this.enabled = enabled;
+        this.clock = clock;
+    }
+
+    public void revokeUser(Long userId) {
+        if (!enabled) return;
+        Instant now = clock.instant();
+        revokedBefore.put(userId, now);
+        revokedBefore.values().removeIf(cutoff -> isExpired(cutoff, now));
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        if (!enabled || revokedBefore.isEmpty()) return false;
+        Instant cutoff = revokedBefore.get(claims.userId());
+        if (cutoff == null) return false;
+        if (isExpired(cutoff, clock.instant())) {
+            revokedBefore.remove(claims.userId(), cutoff);
+            return false;
+        }
+        // iat has second precision, so a token issued in the same second as the cutoff is rejected too
+        return !claims.issuedAt().isAfter(cutoff);
+    }
+
+    private boolean isExpired(Instant cutoff, Instant now) {
+        return cutoff.plus(retention).isBefore(now);
+    }
+}
@@ -4,33 +4,61 @@ import com.eventmate.dto.AuthRequest;
 import com.eventmate.dto.AuthResponse;
 import com.eventmate.dto.RegisterRequest;
 import com.eventmate.entity.User;
+import com.eventmate.exception.InvalidCredentialsException;
 import com.eventmate.repository.UserRepository;
 import com.eventmate.security.JwtService;
+import com.eventmate.security.PasswordHasher;
+import com.eventmate.security.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserService userService;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserRepository userRepository;
+    private final TokenRevocationService revocationService;
 
-    public User register(RegisterRequest req) {
+    public CompletableFuture<User> register(RegisterRequest req) {
         return userService.register(req);
     }
 
-    public AuthResponse login(AuthRequest req) {
-        User user = userRepository.findByEmail(req.email())
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+    // The BCrypt check completes on the hashing pool; unknown emails are checked against a
+    // dummy hash so both failure paths take the same time.
+    public CompletableFuture<AuthResponse> login(AuthRequest req) {
+        User user = userRepository.findByEmail(req.email()).orElse(null);
+        String storedHash = user != null ? user.getPassword() : null;
+
+        return passwordHasher.matches(req.password(), storedHash).thenApply(matches -> {
+            if (!matches) throw new InvalidCredentialsException();
+            if (passwordHasher.needsRehash(storedHash)) rehash(user, req.password());
+            return new AuthResponse(jwtService.generateToken(user));
+        });
+    }
 
-        if (!passwordEncoder.matches(req.password(), user.getPassword()))
-            throw new RuntimeException("Invalid credentials");
+    public void logout(Long userId) {
+        revocationService.revokeUser(userId);
+    }
 
-        String token = jwtService.generateToken(user);
-        return new AuthResponse(token);
+    // Re-encodes at the configured cost in the background; if the pool is busy the next login retries.
+    private void rehash(User user, String rawPassword) {
+        try {
+            passwordHasher.encode(rawPassword)
+                    .thenAccept(hash -> userRepository.replacePasswordHash(user.getId(), user.getPassword(), hash))
+                    .exceptionally(ex -> {
+                        log.warn("Password rehash failed for user {}: {}", user.getId(), ex.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException ex) {
+            log.debug("Skipping password rehash for user {}, hashing pool is saturated", user.getId());
+        }
     }
 }
@@ -0,0 +1,126 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.ScheduleEntry;
+import com.eventmate.entity.Registration;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes a user's registrations as an RFC 5545 iCalendar feed. Entries come from
+ * {@link UserCalendarIndex}; each VEVENT is written straight to the response as it is formatted.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    // RFC 5545 3.1: lines longer than 75 octets are folded
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final UserCalendarIndex calendarIndex;
+    private final UserRepository userRepository;
+    private final JwtService jwtService;
+
+    /** The token of the user's current feed URL. */
+    public String feedToken(Long userId) {
+        int version = userRepository.findCalendarTokenVersion(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return jwtService.calendarFeedToken(userId, version);
+    }
+
+    public boolean isFeedToken(Long userId, String token) {
+        return userRepository.findCalendarTokenVersion(userId)
+                .map(version -> jwtService.isCalendarFeedToken(userId, version, token))
+                .orElse(false);
+    }
+
+    /** Revokes the user's feed URL and returns the token of its replacement. */
+    public String rotateFeedToken(Long userId) {
+        userRepository.rotateCalendarToken(userId);
+        return feedToken(userId);
+    }
+
+    public StreamingResponseBody feed(Long userId) {
+        List<ScheduleEntry> entries = calendarIndex.all(userId);
+        String stamp = UTC_DATE_TIME.format(Instant.now());
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            writeLine(writer, "BEGIN:VCALENDAR");
+            writeLine(writer, "VERSION:2.0");
+            writeLine(writer, "PRODID:-//EventMate//Attendee calendar//EN");
+            writeLine(writer, "CALSCALE:GREGORIAN");
+            writeLine(writer, "X-WR-CALNAME:EventMate");
+            for (ScheduleEntry entry : entries) {
+                writeEvent(writer, entry, stamp);
+            }
+            writeLine(writer, "END:VCALENDAR");
+            writer.flush();
+        };
+    }
+
+    private static void writeEvent(Writer writer, ScheduleEntry entry, String stamp) throws IOException {
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:event-" + entry.eventId() + "@eventmate");
+        writeLine(writer, "DTSTAMP:" + stamp);
+        writeLine(writer, "DTSTART:" + UTC_DATE_TIME.format(entry.startTime()));
+        writeLine(writer, "DTEND:" + UTC_DATE_TIME.format(entry.endTime()));
+        writeLine(writer, "SUMMARY:" + escape(entry.title()));
+        if (entry.location() != null) {
+            writeLine(writer, "LOCATION:" + escape(entry.location()));
+        }
+        // a waitlisted seat is not confirmed yet
+        writeLine(writer, "STATUS:" + (entry.status() == Registration.Status.WAITLISTED ? "TENTATIVE" : "CONFIRMED"));
+        writeLine(writer, "END:VEVENT");
+    }
+
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // Folds after at most 75 UTF-8 octets, never inside a surrogate pair; continuation lines start with a space.
+    static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int width = utf8Length(codePoint);
+            if (octets + width > limit) {
+                writer.write("\r\n ");
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            writer.write(line, i, Character.charCount(codePoint));
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        return codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+    }
+}
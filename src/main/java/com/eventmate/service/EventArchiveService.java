@@ -0,0 +1,135 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventResponse;
+import com.eventmate.entity.Event;
+import com.eventmate.repository.ArchivedEventRepository;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.RegistrationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the live {@code events} and {@code registrations} tables down to current events. Events
+ * that ended more than {@code eventmate.archive.after} ago are moved, with their registrations,
+ * into {@code events_archive} and {@code registrations_archive} in batches; deleted events are
+ * moved there too, marked as deleted, instead of being dropped. Overlap checks, listings and
+ * searches therefore never touch history, while {@code GET /api/events/{id}} still finds an
+ * archived event through {@link #findResponse}.
+ */
+@Slf4j
+@Service
+public class EventArchiveService {
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    // Partition DDL commits on its own, before the rows that need the partition are moved
+    private final TransactionTemplate ddlTemplate;
+    private final Counter archived;
+    private final Duration after;
+    private final int batchSize;
+    private final boolean partitions;
+    private final Set<Integer> partitionedYears = ConcurrentHashMap.newKeySet();
+
+    public EventArchiveService(EventRepository eventRepository,
+                               RegistrationRepository registrationRepository,
+                               ArchivedEventRepository archivedEventRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${eventmate.archive.after:30d}") Duration after,
+                               @Value("${eventmate.archive.batch-size:1000}") int batchSize,
+                               @Value("${eventmate.archive.partitions:false}") boolean partitions) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ddlTemplate = new TransactionTemplate(transactionManager);
+        this.ddlTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.archived = meterRegistry.counter("eventmate.archive.events");
+        this.after = after;
+        this.batchSize = batchSize;
+        this.partitions = partitions;
+    }
+
+    /** Moves every event that ended before the cutoff, one batch per transaction. Returns how many moved. */
+    @Scheduled(fixedDelayString = "${eventmate.archive.interval-ms:3600000}",
+               initialDelayString = "${eventmate.archive.interval-ms:3600000}")
+    public int archiveEnded() {
+        Instant cutoff = Instant.now().minus(after);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                List<Event> batch = eventRepository.claimEnded(cutoff, PageRequest.of(0, batchSize));
+                if (!batch.isEmpty()) {
+                    move(batch, Instant.now());
+                }
+                return batch.size();
+            });
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            archived.increment(total);
+            log.info("Archived {} events that ended before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    /** Soft delete: moves the event and its registrations to the archive, marked as deleted. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void archiveDeleted(Event event) {
+        Instant now = Instant.now();
+        move(List.of(event), now);
+        archivedEventRepository.markDeleted(List.of(event.getId()), now);
+    }
+
+    public Optional<EventResponse> findResponse(Long eventId) {
+        return archivedEventRepository.findResponseById(eventId);
+    }
+
+    private void move(List<Event> events, Instant now) {
+        if (partitions) {
+            events.stream().map(e -> e.getStartTime().atZone(ZoneOffset.UTC).getYear())
+                    .distinct()
+                    .forEach(this::ensurePartitions);
+        }
+        List<Long> ids = events.stream().map(Event::getId).toList();
+        archivedEventRepository.archive(ids, now);
+        archivedEventRepository.archiveRegistrations(ids);
+        registrationRepository.deleteByEventIds(ids);
+        eventRepository.deleteAllByIdInBatch(ids);
+    }
+
+    private void ensurePartitions(int year) {
+        if (partitionedYears.contains(year)) {
+            return;
+        }
+        try {
+            ddlTemplate.executeWithoutResult(status -> archivedEventRepository.createPartitions(year));
+            partitionedYears.add(year);
+        } catch (DataAccessException ex) {
+            // most likely created concurrently by another instance; if not, the insert fails and is retried
+            log.warn("Could not create archive partitions for {}", year, ex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of event details. Entries are dropped after the writing
+ * transaction commits; dropping earlier would let a concurrent read re-cache the old row.
+ * Hit, miss and eviction counts are published as {@code cache.*{cache="events"}} metrics.
+ * <p>
+ * Misses are loaded by the calling thread outside the cache's map lock: a loader blocked on a
+ * pool connection must never hold up the invalidation of a committing writer that still owns one.
+ */
+@Component
+public class EventCache {
+
+    private final AsyncCache<Long, EventResponse> cache;
+
+    public EventCache(MeterRegistry meterRegistry,
+                      @Value("${eventmate.cache.events.max-size:10000}") long maxSize,
+                      @Value("${eventmate.cache.events.ttl-ms:60000}") long ttlMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "events");
+    }
+
+    // Missing events are not cached, so a freshly created id is visible immediately.
+    // Concurrent misses for the same id wait for the first caller's load instead of repeating it.
+    public Optional<EventResponse> get(Long id, Function<Long, Optional<EventResponse>> loader) {
+        CompletableFuture<EventResponse> pending = new CompletableFuture<>();
+        CompletableFuture<EventResponse> cached = cache.get(id, (key, executor) -> pending);
+        if (cached == pending) {
+            try {
+                pending.complete(loader.apply(id).orElse(null));
+            } catch (Throwable ex) {
+                // an Error too: left incomplete, the future would block every later get in join()
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        return Optional.ofNullable(cached.join());
+    }
+
+    public void invalidate(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        invalidate(change.eventId());
+    }
+}
@@ -0,0 +1,12 @@
+package com.eventmate.service;
+
+/**
+ * Published by {@link EventService} inside the write transaction. Listeners that must
+ * only react to committed state use {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.
+ */
+public record EventChangedEvent(Long eventId, Kind kind) {
+
+    public enum Kind {
+        UPDATED, DELETED
+    }
+}
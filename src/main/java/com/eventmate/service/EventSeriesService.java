@@ -0,0 +1,343 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventCursor;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.EventSeriesRequest;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.EventSeries;
+import com.eventmate.entity.Registration;
+import com.eventmate.exception.ConflictException;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.EventSeriesRepository;
+import com.eventmate.repository.EventSlot;
+import com.eventmate.repository.OccurrenceKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Recurring events. A series is one row: creating a year of weekly meetups is a single insert,
+ * checked for overlaps by expanding its rule in memory against one range read of the organizer's
+ * schedule. Occurrences are expanded from the rule whenever a listing window needs them and only
+ * become {@code events} rows when someone registers, so seat counting, waitlists and
+ * notifications work on them unchanged.
+ */
+@Service
+public class EventSeriesService {
+
+    static final int MAX_OCCURRENCES = 1000;
+    private static final Instant FAR_FUTURE = Instant.parse("9999-01-01T00:00:00Z");
+    private static final String OVERLAP_MESSAGE = "Series occurrence at %s overlaps with an existing event for this organizer";
+    public static final Comparator<EventResponse> LISTING_ORDER =
+            Comparator.comparing(EventResponse::startTime).thenComparingLong(EventSeriesService::listingKey);
+
+    private final EventSeriesRepository seriesRepository;
+    private final EventRepository eventRepository;
+    private final RegistrationService registrationService;
+    private final UserService userService;
+    // Occurrence starts per series; a series' schedule never changes, so entries are never stale.
+    private final Cache<Long, Schedule> schedules;
+
+    public EventSeriesService(EventSeriesRepository seriesRepository,
+                              EventRepository eventRepository,
+                              RegistrationService registrationService,
+                              UserService userService,
+                              @Value("${eventmate.series.schedule-cache-size:2000}") long scheduleCacheSize) {
+        this.seriesRepository = seriesRepository;
+        this.eventRepository = eventRepository;
+        this.registrationService = registrationService;
+        this.userService = userService;
+        this.schedules = Caffeine.newBuilder().maximumSize(scheduleCacheSize).build();
+    }
+
+    @Transactional
+    public EventSeries createSeries(Long organizerId, EventSeriesRequest req) {
+        // second precision keeps every occurrence start exactly representable in a Schedule
+        Instant start = req.startTime().truncatedTo(ChronoUnit.SECONDS);
+        Instant end = req.endTime().truncatedTo(ChronoUnit.SECONDS);
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("endTime must be after startTime");
+        }
+        if (req.capacity() == null || req.capacity() <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        ZoneId zone = zone(req.timeZone());
+        RecurrenceRule rule = RecurrenceRule.parse(req.recurrence());
+        List<ZonedDateTime> starts = rule.expand(start.atZone(zone), MAX_OCCURRENCES + 1);
+        if (starts.isEmpty()) {
+            throw new IllegalArgumentException("recurrence has no occurrences from startTime on; check UNTIL");
+        }
+        if (starts.size() > MAX_OCCURRENCES) {
+            throw new IllegalArgumentException("A series can have at most " + MAX_OCCURRENCES + " occurrences");
+        }
+        Schedule schedule = Schedule.of(starts, Duration.between(start, end));
+        Instant seriesEnd = userService.lockSchedule(organizerId);
+        checkOverlap(organizerId, schedule, seriesEnd);
+
+        EventSeries series = seriesRepository.save(EventSeries.builder()
+                .title(req.title())
+                .description(req.description())
+                .location(req.location())
+                .capacity(req.capacity())
+                .firstStart(start)
+                .durationSeconds(schedule.durationSeconds())
+                .timeZone(zone.getId())
+                .recurrence(rule.toString())
+                .occurrenceCount(starts.size())
+                .lastEnd(schedule.end(starts.size() - 1))
+                .createdBy(organizerId)
+                .createdAt(Instant.now())
+                .build());
+        userService.recordSeriesEnd(organizerId, series.getLastEnd());
+        return series;
+    }
+
+    public Optional<EventSeries> getSeries(Long seriesId) {
+        return seriesRepository.findById(seriesId);
+    }
+
+    /**
+     * Time ranges of the organizer's series occurrences overlapping [from, to), other than
+     * cancelled ones and those of {@code ignoreSeriesId}. Materialized occurrences are included
+     * as well; they are also in {@code events}, at the same times.
+     */
+    @Transactional(readOnly = true)
+    public List<EventSlot> occupiedSlots(Long organizerId, Instant from, Instant to, Long ignoreSeriesId) {
+        List<EventSlot> slots = new ArrayList<>();
+        for (EventSeries series : seriesRepository.findActive(organizerId, null, from, to)) {
+            if (series.getId().equals(ignoreSeriesId)) continue;
+            Schedule schedule = schedule(series);
+            // an occurrence starting up to one duration before `from` still reaches into the range
+            for (int i = schedule.indexOf(from.minusSeconds(schedule.durationSeconds())); i < schedule.size(); i++) {
+                Instant start = schedule.start(i);
+                if (!start.isBefore(to)) break;
+                if (schedule.end(i).isAfter(from) && !series.getExdates().contains(start)) {
+                    slots.add(new EventSlot(start, schedule.end(i)));
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Occurrences matching the listing filter that have no events row yet, in the listing order
+     * (start time, then {@link #listingKey}), after {@code after} and starting no later than
+     * {@code upTo} (null for no bound). At most {@code limit} are returned.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> findOccurrences(EventFilter filter, EventCursor after, Instant upTo, int limit) {
+        Instant from = after != null && after.startTime().isAfter(filter.from()) ? after.startTime() : filter.from();
+        Instant before = filter.to() != null ? filter.to() : FAR_FUTURE;
+        if (upTo != null && upTo.isBefore(before)) before = upTo.plusNanos(1);
+        if (!from.isBefore(before)) return List.of();
+
+        List<EventSeries> active = seriesRepository.findActive(filter.organizerId(), filter.location(), from, before);
+        if (active.isEmpty()) return List.of();
+        Set<OccurrenceKey> materialized = new HashSet<>(eventRepository.findMaterialized(
+                active.stream().map(EventSeries::getId).toList(), from, before));
+
+        List<EventResponse> occurrences = new ArrayList<>();
+        for (EventSeries series : active) {
+            Schedule schedule = schedule(series);
+            int taken = 0;
+            for (int i = schedule.indexOf(from); i < schedule.size() && taken < limit; i++) {
+                Instant start = schedule.start(i);
+                if (!start.isBefore(before)) break;
+                if (after != null && start.equals(after.startTime()) && -series.getId() <= after.id()) continue;
+                if (series.getExdates().contains(start)
+                        || materialized.contains(new OccurrenceKey(series.getId(), start))) continue;
+                occurrences.add(toResponse(series, start, schedule.end(i)));
+                taken++;
+            }
+        }
+        occurrences.sort(LISTING_ORDER);
+        return occurrences.size() <= limit ? occurrences : List.copyOf(occurrences.subList(0, limit));
+    }
+
+    /**
+     * Up to {@code limit} occurrences of one series starting at or after {@code from}, with the
+     * materialized ones read from {@code events} so they carry their id and version.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> listSeriesOccurrences(Long seriesId, Instant from, int limit) {
+        EventSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+        Schedule schedule = schedule(series);
+        int first = schedule.indexOf(from);
+        int last = Math.min(schedule.size(), first + limit) - 1;
+        if (last < first) return List.of();
+
+        Map<Instant, EventResponse> materialized = new HashMap<>();
+        eventRepository.findOccurrences(seriesId, schedule.start(first), schedule.start(last).plusNanos(1))
+                .forEach(e -> materialized.put(e.startTime(), e));
+        List<EventResponse> occurrences = new ArrayList<>();
+        for (int i = first; i <= last; i++) {
+            Instant start = schedule.start(i);
+            EventResponse row = materialized.get(start);
+            if (row != null) {
+                occurrences.add(row);
+            } else if (!series.getExdates().contains(start)) {
+                occurrences.add(toResponse(series, start, schedule.end(i)));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Registers the user for one occurrence, writing its events row first if this is the first
+     * registration. The series row lock makes concurrent first registrations share one row.
+     */
+    @Transactional
+    public Registration registerForOccurrence(Long userId, Long seriesId, Instant start) {
+        return registrationService.register(userId, materialize(seriesId, start));
+    }
+
+    /**
+     * Cancels one occurrence by recording it as an exception date of the series. Returns the id
+     * of its events row if it had been materialized; the caller deletes that event.
+     */
+    @Transactional
+    public Optional<Long> cancelOccurrence(Long organizerId, Long seriesId, Instant start) {
+        EventSeries series = seriesRepository.findForUpdate(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+        if (!series.getCreatedBy().equals(organizerId)) {
+            throw new SecurityException("You are not the owner of this series");
+        }
+        requireOccurrence(series, start);
+        series.getExdates().add(start);
+        return eventRepository.findOccurrenceId(seriesId, start);
+    }
+
+    Long materialize(Long seriesId, Instant start) {
+        Optional<Long> existing = eventRepository.findOccurrenceId(seriesId, start);
+        if (existing.isPresent()) return existing.get();
+
+        EventSeries series = seriesRepository.findForUpdate(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+        existing = eventRepository.findOccurrenceId(seriesId, start);
+        if (existing.isPresent()) return existing.get();
+        Schedule schedule = schedule(series);
+        int index = requireOccurrence(series, start);
+
+        Event occurrence = Event.builder()
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .location(series.getLocation())
+                .startTime(start)
+                .endTime(schedule.end(index))
+                .capacity(series.getCapacity())
+                .createdBy(series.getCreatedBy())
+                .createdAt(Instant.now())
+                .seriesId(seriesId)
+                .build();
+        try {
+            return eventRepository.saveAndFlush(occurrence).getId();
+        } catch (DataIntegrityViolationException ex) {
+            // events_no_overlap: a single event was created over this occurrence after the series
+            throw new ConflictException(OVERLAP_MESSAGE.formatted(start));
+        }
+    }
+
+    // Sort key within one start time: the event id, or minus the series id for an occurrence
+    // without a row, so both kinds fit the (startTime, id) keyset cursor of GET /api/events.
+    public static long listingKey(EventResponse event) {
+        return event.id() != null ? event.id() : -event.seriesId();
+    }
+
+    private int requireOccurrence(EventSeries series, Instant start) {
+        int index = schedule(series).find(start);
+        if (index < 0 || series.getExdates().contains(start)) {
+            throw new IllegalArgumentException("The series has no occurrence starting at " + start);
+        }
+        return index;
+    }
+
+    // Sweeps the new occurrences against everything the organizer already has in their range.
+    private void checkOverlap(Long organizerId, Schedule schedule, Instant seriesEnd) {
+        Instant from = schedule.start(0);
+        Instant to = schedule.end(schedule.size() - 1);
+        TreeMap<Instant, Instant> occupied = new TreeMap<>();
+        eventRepository.findSlots(organizerId, from, to).forEach(slot -> occupied.put(slot.startTime(), slot.endTime()));
+        if (seriesEnd != null && seriesEnd.isAfter(from)) {
+            occupiedSlots(organizerId, from, to, null).forEach(slot -> occupied.put(slot.startTime(), slot.endTime()));
+        }
+
+        for (int i = 0; i < schedule.size(); i++) {
+            Instant start = schedule.start(i);
+            Map.Entry<Instant, Instant> previous = occupied.lowerEntry(schedule.end(i));
+            if (previous != null && previous.getValue().isAfter(start)) {
+                throw new ConflictException(OVERLAP_MESSAGE.formatted(start));
+            }
+            occupied.put(start, schedule.end(i));
+        }
+    }
+
+    private Schedule schedule(EventSeries series) {
+        return schedules.get(series.getId(), id -> {
+            RecurrenceRule rule = RecurrenceRule.parse(series.getRecurrence());
+            ZonedDateTime first = series.getFirstStart().atZone(ZoneId.of(series.getTimeZone()));
+            return Schedule.of(rule.expand(first, series.getOccurrenceCount()), Duration.ofSeconds(series.getDurationSeconds()));
+        });
+    }
+
+    private static EventResponse toResponse(EventSeries series, Instant start, Instant end) {
+        return new EventResponse(null, series.getTitle(), series.getDescription(), series.getLocation(),
+                start, end, series.getCapacity(), series.getCreatedBy(), series.getCreatedAt(), null, series.getId());
+    }
+
+    private static ZoneId zone(String id) {
+        if (id == null || id.isBlank()) return ZoneOffset.UTC;
+        try {
+            return ZoneId.of(id);
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException("Unknown timeZone: " + id);
+        }
+    }
+
+    // Occurrence starts as sorted epoch seconds: 8 bytes per occurrence, binary-searched by window.
+    private record Schedule(long[] starts, long durationSeconds) {
+
+        static Schedule of(List<ZonedDateTime> starts, Duration duration) {
+            return new Schedule(starts.stream().mapToLong(ZonedDateTime::toEpochSecond).toArray(), duration.toSeconds());
+        }
+
+        int size() {
+            return starts.length;
+        }
+
+        Instant start(int i) {
+            return Instant.ofEpochSecond(starts[i]);
+        }
+
+        Instant end(int i) {
+            return Instant.ofEpochSecond(starts[i] + durationSeconds);
+        }
+
+        // Index of the first start at or after the instant.
+        int indexOf(Instant instant) {
+            long seconds = instant.getEpochSecond() + (instant.getNano() > 0 ? 1 : 0);
+            int i = Arrays.binarySearch(starts, seconds);
+            return i >= 0 ? i : -i - 1;
+        }
+
+        // Index of exactly this start, or -1.
+        int find(Instant start) {
+            if (start.getNano() != 0) return -1;
+            int i = Arrays.binarySearch(starts, start.getEpochSecond());
+            return i >= 0 ? i : -1;
+        }
+    }
+}
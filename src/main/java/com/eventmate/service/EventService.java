@@ -1,40 +1,127 @@
 package com.eventmate.service;
 
+import com.eventmate.dto.BulkImportResponse;
+import com.eventmate.dto.EventCursor;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventPage;
 import com.eventmate.dto.EventRequest;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.EventSearchHit;
+import com.eventmate.dto.EventSearchPage;
+import com.eventmate.dto.SearchCursor;
 import com.eventmate.entity.Event;
+import com.eventmate.exception.ConflictException;
 import com.eventmate.repository.EventRepository;
+import jakarta.validation.ConstraintViolation;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_QUERY_LENGTH = 200;
+    public static final int MAX_IMPORT_SIZE = 5000;
+    static final String OVERLAP_CONSTRAINT = "events_no_overlap";
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String OVERLAP_MESSAGE = "Event time overlaps with an existing event for this organizer";
+
     private final EventRepository eventRepository;
-    private final UserService userService; // to validate organizer existence if needed
+    private final UserService userService;
+    private final NotificationService notificationService;
+    private final RegistrationService registrationService;
+    private final EventSeriesService eventSeriesService;
+    private final EventCache eventCache;
+    private final EventArchiveService eventArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    // When the events_no_overlap exclusion constraint is installed (Postgres, V7) it is the
+    // only overlap guard: writes go straight to the database and a violation becomes a 409.
+    @Value("${eventmate.events.rely-on-overlap-constraint:false}")
+    private boolean relyOnOverlapConstraint;
 
     @Transactional
     public Event createEvent(Long organizerId, EventRequest req) {
         validateTimes(req.startTime(), req.endTime());
         checkCapacity(req.capacity());
-        checkOverlap(organizerId, req.startTime(), req.endTime(), null);
+        checkOverlap(organizerId, req.startTime(), req.endTime(), null, null);
 
-        Event event = Event.builder()
-                .title(req.title())
-                .description(req.description())
-                .location(req.location())
-                .startTime(req.startTime())
-                .endTime(req.endTime())
-                .capacity(req.capacity())
-                .createdBy(organizerId)
-                .createdAt(Instant.now())
-                .build();
+        return saveChecked(toEvent(organizerId, req, Instant.now()));
+    }
+
+    /**
+     * Imports a whole schedule for one organizer and reports a result per item. Overlaps
+     * are found in memory: the batch is sorted by start time and swept against the
+     * organizer's existing events, which are read with a single range query. Accepted
+     * events are inserted as JDBC batches.
+     */
+    @Transactional
+    public BulkImportResponse importEvents(Long organizerId, List<EventRequest> requests) {
+        if (requests.size() > MAX_IMPORT_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_IMPORT_SIZE + " events can be imported at once");
+        }
+        Long[] ids = new Long[requests.size()];
+        String[] errors = new String[requests.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validateImportItem(requests.get(i));
+            if (error != null) {
+                errors[i] = error;
+            } else {
+                candidates.add(i);
+            }
+        }
+        candidates.sort(Comparator.comparing((Integer i) -> requests.get(i).startTime()).thenComparing(i -> i));
+
+        // start -> end of every slot taken so far; slots never overlap each other
+        TreeMap<Instant, Instant> occupied = new TreeMap<>();
+        if (!candidates.isEmpty()) {
+            Instant seriesEnd = lockSchedule(organizerId);
+            Instant from = requests.get(candidates.get(0)).startTime();
+            Instant to = candidates.stream().map(i -> requests.get(i).endTime()).max(Comparator.naturalOrder()).get();
+            eventRepository.findSlots(organizerId, from, to)
+                    .forEach(slot -> occupied.put(slot.startTime(), slot.endTime()));
+            if (seriesEnd != null && seriesEnd.isAfter(from)) {
+                eventSeriesService.occupiedSlots(organizerId, from, to, null)
+                        .forEach(slot -> occupied.put(slot.startTime(), slot.endTime()));
+            }
+        }
+
+        Map<Integer, Event> accepted = new LinkedHashMap<>();
+        Instant now = Instant.now();
+        for (int i : candidates) {
+            EventRequest req = requests.get(i);
+            // only the latest slot starting before our end can reach into our range
+            Map.Entry<Instant, Instant> previous = occupied.lowerEntry(req.endTime());
+            if (previous != null && previous.getValue().isAfter(req.startTime())) {
+                errors[i] = OVERLAP_MESSAGE;
+                continue;
+            }
+            occupied.put(req.startTime(), req.endTime());
+            accepted.put(i, toEvent(organizerId, req, now));
+        }
 
-        return eventRepository.save(event);
+        if (!accepted.isEmpty()) {
+            saveAllChecked(accepted.values());
+        }
+        accepted.forEach((i, event) -> ids[i] = event.getId());
+        return new BulkImportResponse(accepted.size(), requests.size() - accepted.size(),
+                Arrays.asList(ids), Arrays.asList(errors));
     }
 
     @Transactional
@@ -49,8 +136,17 @@ public class EventService {
             throw new SecurityException("You are not the owner of this event");
         }
 
-        checkOverlap(organizerId, req.startTime(), req.endTime(), eventId);
+        if (req.capacity() < existing.getBooked()) {
+            throw new ConflictException("capacity cannot be lower than the number of booked seats");
+        }
+
+        if (existing.getSeriesId() != null
+                && !(req.startTime().equals(existing.getStartTime()) && req.endTime().equals(existing.getEndTime()))) {
+            throw new IllegalArgumentException("Occurrences of a series keep the series schedule");
+        }
+        checkOverlap(organizerId, req.startTime(), req.endTime(), eventId, existing.getSeriesId());
 
+        boolean capacityRaised = req.capacity() > existing.getCapacity();
         existing.setTitle(req.title());
         existing.setDescription(req.description());
         existing.setLocation(req.location());
@@ -58,7 +154,14 @@ public class EventService {
         existing.setEndTime(req.endTime());
         existing.setCapacity(req.capacity());
 
-        return eventRepository.save(existing);
+        // flush so the returned entity already carries the bumped version
+        Event saved = saveChecked(existing);
+        if (capacityRaised) {
+            registrationService.fillFromWaitlist(eventId);
+        }
+        notificationService.eventUpdated(saved);
+        eventPublisher.publishEvent(new EventChangedEvent(eventId, EventChangedEvent.Kind.UPDATED));
+        return saved;
     }
 
     @Transactional
@@ -69,13 +172,102 @@ public class EventService {
         if (!existing.getCreatedBy().equals(organizerId)) {
             throw new SecurityException("You are not the owner of this event");
         }
-        eventRepository.delete(existing);
+        if (existing.getSeriesId() != null) {
+            // recorded on the series, or the rule would list the occurrence again
+            eventSeriesService.cancelOccurrence(organizerId, existing.getSeriesId(), existing.getStartTime());
+        }
+        delete(existing);
+    }
+
+    // Cancels one occurrence of a series, deleting its event (and notifying attendees) if it has one.
+    @Transactional
+    public void cancelSeriesOccurrence(Long organizerId, Long seriesId, Instant start) {
+        eventSeriesService.cancelOccurrence(organizerId, seriesId, start)
+                .flatMap(eventRepository::findById)
+                .ifPresent(this::delete);
+    }
+
+    // Soft delete: the event and its registrations are kept in the archive, hidden from reads.
+    private void delete(Event existing) {
+        notificationService.eventCancelled(existing);
+        eventArchiveService.archiveDeleted(existing);
+        eventPublisher.publishEvent(new EventChangedEvent(existing.getId(), EventChangedEvent.Kind.DELETED));
     }
 
     public Optional<Event> getEvent(Long id) {
         return eventRepository.findById(id);
     }
 
+    // Read-through: served from EventCache, loaded as a projection on a miss. Events that have
+    // ended and been archived are read from the archive.
+    public Optional<EventResponse> getEventResponse(Long id) {
+        return eventCache.get(id, key -> eventRepository.findResponseById(key)
+                .or(() -> eventArchiveService.findResponse(key)));
+    }
+
+    /**
+     * Lists events in (startTime, id) order. Without a {@code from} bound only upcoming
+     * events are returned. Pass the previous page's {@code nextCursor} to continue.
+     * Series occurrences without an events row are expanded from their rules and merged in.
+     */
+    @Transactional(readOnly = true)
+    public EventPage listEvents(EventFilter filter, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        EventFilter effective = filter.from() != null ? filter
+                : new EventFilter(Instant.now(), filter.to(), filter.location(), filter.organizerId());
+        EventCursor after = cursor == null || cursor.isBlank() ? null : EventCursor.decode(cursor);
+
+        // fetch one extra row to learn whether another page exists
+        List<EventResponse> rows = eventRepository.findPage(effective, after, pageSize + 1);
+        // occurrences starting after a full page of rows cannot make it onto this page
+        Instant upTo = rows.size() > pageSize ? rows.get(pageSize).startTime() : null;
+        List<EventResponse> occurrences = eventSeriesService.findOccurrences(effective, after, upTo, pageSize + 1);
+        if (!occurrences.isEmpty()) {
+            rows = merge(rows, occurrences, pageSize + 1);
+        }
+        if (rows.size() <= pageSize) {
+            return new EventPage(rows, null);
+        }
+        List<EventResponse> items = rows.subList(0, pageSize);
+        EventResponse last = items.get(pageSize - 1);
+        return new EventPage(List.copyOf(items),
+                new EventCursor(last.startTime(), EventSeriesService.listingKey(last)).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public EventSearchPage searchEvents(String query, Instant from, String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+
+        List<EventSearchHit> rows = eventRepository.search(query.strip(), from != null ? from : Instant.now(),
+                after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new EventSearchPage(rows, null);
+        }
+        List<EventSearchHit> items = rows.subList(0, pageSize);
+        EventSearchHit last = items.get(pageSize - 1);
+        return new EventSearchPage(List.copyOf(items), new SearchCursor(last.rank(), last.event().id()).encode());
+    }
+
+    private static List<EventResponse> merge(List<EventResponse> a, List<EventResponse> b, int limit) {
+        List<EventResponse> merged = new ArrayList<>(Math.min(limit, a.size() + b.size()));
+        int i = 0, j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            if (j == b.size() || (i < a.size() && EventSeriesService.LISTING_ORDER.compare(a.get(i), b.get(j)) <= 0)) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+        return merged;
+    }
+
     private void validateTimes(Instant start, Instant end) {
         if (!end.isAfter(start)) {
             throw new IllegalArgumentException("endTime must be after startTime");
@@ -88,10 +280,93 @@ public class EventService {
         }
     }
 
-    private void checkOverlap(Long organizerId, Instant start, Instant end, Long excludeId) {
-        var overlaps = eventRepository.findOverlappingEvents(organizerId, start, end, excludeId);
-        if (!overlaps.isEmpty()) {
-            throw new IllegalStateException("Event time overlaps with an existing event for this organizer");
+    // Series occurrences are checked against their rules even with the exclusion constraint:
+    // most of them have no events row for the constraint to see. Organizers without a series
+    // running past the start have none to check.
+    private void checkOverlap(Long organizerId, Instant start, Instant end, Long excludeId, Long seriesId) {
+        Instant seriesEnd = lockSchedule(organizerId);
+        if (seriesEnd != null && seriesEnd.isAfter(start)
+                && !eventSeriesService.occupiedSlots(organizerId, start, end, seriesId).isEmpty()) {
+            throw new ConflictException(OVERLAP_MESSAGE);
+        }
+        if (relyOnOverlapConstraint) return;
+        boolean overlaps = meterRegistry.timer("eventmate.events.overlap.check").record(
+                () -> eventRepository.existsOverlappingEvent(organizerId, start, end, excludeId));
+        if (overlaps) {
+            throw new ConflictException(OVERLAP_MESSAGE);
+        }
+    }
+
+    // With the exclusion constraint an organizer's writes need not wait for each other, only for
+    // a series being created; the overlap query needs them serialized.
+    private Instant lockSchedule(Long organizerId) {
+        return relyOnOverlapConstraint
+                ? userService.lockScheduleShared(organizerId)
+                : userService.lockSchedule(organizerId);
+    }
+
+    // Flushes so a constraint violation surfaces here and can be reported as an overlap.
+    private Event saveChecked(Event event) {
+        try {
+            return meterRegistry.timer("eventmate.events.save", "mode", "single").record(
+                    () -> eventRepository.saveAndFlush(event));
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new ConflictException(OVERLAP_MESSAGE);
+            }
+            throw ex;
+        }
+    }
+
+    private void saveAllChecked(Collection<Event> events) {
+        try {
+            meterRegistry.timer("eventmate.events.save", "mode", "batch").record(
+                    () -> eventRepository.saveAllAndFlush(events));
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new ConflictException(OVERLAP_MESSAGE);
+            }
+            throw ex;
+        }
+    }
+
+    private Event toEvent(Long organizerId, EventRequest req, Instant now) {
+        return Event.builder()
+                .title(req.title())
+                .description(req.description())
+                .location(req.location())
+                .startTime(req.startTime())
+                .endTime(req.endTime())
+                .capacity(req.capacity())
+                .createdBy(organizerId)
+                .createdAt(now)
+                .build();
+    }
+
+    // Same rules as the single-event path, reported as a message instead of thrown.
+    private String validateImportItem(EventRequest req) {
+        if (req == null) return "event must not be null";
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            validateTimes(req.startTime(), req.endTime());
+            checkCapacity(req.capacity());
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+        return null;
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) return true;
+            if (t.getMessage() != null && t.getMessage().contains(OVERLAP_CONSTRAINT)) return true;
         }
+        return false;
     }
 }
@@ -0,0 +1,177 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventDashboard;
+import com.eventmate.dto.HourlyActivity;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.EventStats;
+import com.eventmate.entity.EventStatsDelta;
+import com.eventmate.entity.EventStatsHourly;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.EventStatsDeltaRepository;
+import com.eventmate.repository.EventStatsHourlyRepository;
+import com.eventmate.repository.EventStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Organizer dashboard counters. Each registration change inserts an {@code event_stats_delta}
+ * row in the registration's transaction, so it commits or rolls back with the change and
+ * survives a crash.
+ * Each flush sums the pending rows per event and hour and adds them to {@code event_stats} /
+ * {@code event_stats_hourly}, so a busy event costs one counter update per flush rather than one
+ * per registration, and a dashboard read is a fixed number of primary-key lookups however many
+ * attendees there are.
+ */
+@Slf4j
+@Service
+public class EventStatsService {
+
+    public static final int MAX_HOURS = 168;
+
+    private record Hour(Long eventId, Instant hour) {}
+
+    private record Delta(int waitlisted, int registrations, int cancellations) {
+        Delta plus(Delta other) {
+            return new Delta(waitlisted + other.waitlisted, registrations + other.registrations,
+                    cancellations + other.cancellations);
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private final EventStatsRepository statsRepository;
+    private final EventStatsHourlyRepository hourlyRepository;
+    private final EventStatsDeltaRepository deltaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public EventStatsService(EventRepository eventRepository,
+                             EventStatsRepository statsRepository,
+                             EventStatsHourlyRepository hourlyRepository,
+                             EventStatsDeltaRepository deltaRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${eventmate.dashboard.batch-size:1000}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.statsRepository = statsRepository;
+        this.hourlyRepository = hourlyRepository;
+        this.deltaRepository = deltaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRegistrationChanged(RegistrationChangedEvent change) {
+        Delta delta = switch (change.transition()) {
+            case CONFIRMED -> new Delta(0, 1, 0);
+            case WAITLISTED -> new Delta(1, 1, 0);
+            case PROMOTED -> new Delta(-1, 0, 0);
+            case CANCELLED -> new Delta(0, 0, 1);
+            case LEFT_WAITLIST -> new Delta(-1, 0, 1);
+        };
+        deltaRepository.save(EventStatsDelta.builder()
+                .eventId(change.eventId())
+                .bucketStart(change.at().truncatedTo(ChronoUnit.HOURS))
+                .waitlisted(delta.waitlisted())
+                .registrations(delta.registrations())
+                .cancellations(delta.cancellations())
+                .build());
+    }
+
+    /**
+     * Drains the pending deltas in batches, each applied and deleted in one transaction. A batch
+     * that fails rolls back as a whole and stays pending for the next flush; deltas of a deleted
+     * event are discarded.
+     */
+    @Scheduled(fixedDelayString = "${eventmate.dashboard.flush-interval-ms:5000}",
+               initialDelayString = "${eventmate.dashboard.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> applyBatch()))) {
+                // keep draining
+            }
+        } catch (DataIntegrityViolationException ex) {
+            // another instance created a counter row first, or the event was just deleted
+            log.debug("Stats flush rolled back, retrying next time: {}", ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.warn("Stats flush failed, retrying later", ex);
+        }
+    }
+
+    // Returns whether the batch was full, i.e. more deltas may be waiting.
+    private boolean applyBatch() {
+        List<EventStatsDelta> batch = deltaRepository.claim(PageRequest.ofSize(batchSize));
+        Map<Long, Delta> totals = new HashMap<>();
+        Map<Hour, Delta> hourly = new HashMap<>();
+        for (EventStatsDelta row : batch) {
+            Delta delta = new Delta(row.getWaitlisted(), row.getRegistrations(), row.getCancellations());
+            totals.merge(row.getEventId(), delta, Delta::plus);
+            hourly.merge(new Hour(row.getEventId(), row.getBucketStart()), delta, Delta::plus);
+        }
+
+        totals.forEach((eventId, delta) -> {
+            if (statsRepository.add(eventId, delta.waitlisted(), delta.registrations(), delta.cancellations()) == 0
+                    && eventRepository.existsById(eventId)) {
+                statsRepository.insert(eventId, delta.waitlisted(), delta.registrations(), delta.cancellations());
+            }
+        });
+        hourly.forEach((key, delta) -> {
+            if ((delta.registrations() != 0 || delta.cancellations() != 0)
+                    && hourlyRepository.add(key.eventId(), key.hour(), delta.registrations(), delta.cancellations()) == 0
+                    && eventRepository.existsById(key.eventId())) {
+                hourlyRepository.insert(key.eventId(), key.hour(), delta.registrations(), delta.cancellations());
+            }
+        });
+        deltaRepository.deleteAllByIdInBatch(batch.stream().map(EventStatsDelta::getId).toList());
+        return batch.size() == batchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public EventDashboard dashboard(Long organizerId, Long eventId, int hours) {
+        if (hours < 1 || hours > MAX_HOURS) {
+            throw new IllegalArgumentException("hours must be between 1 and " + MAX_HOURS);
+        }
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        if (!event.getCreatedBy().equals(organizerId)) {
+            throw new SecurityException("You are not the owner of this event");
+        }
+
+        EventStats stats = statsRepository.findById(eventId)
+                .orElseGet(() -> new EventStats(eventId, 0, 0L, 0L));
+        Instant last = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Instant first = last.minus(Duration.ofHours(hours - 1));
+        Map<Instant, EventStatsHourly> buckets = hourlyRepository.findRange(eventId, first, last).stream()
+                .collect(Collectors.toMap(EventStatsHourly::getBucketStart, Function.identity()));
+
+        List<HourlyActivity> hourly = new ArrayList<>(hours);
+        for (Instant hour = first; !hour.isAfter(last); hour = hour.plus(Duration.ofHours(1))) {
+            EventStatsHourly bucket = buckets.get(hour);
+            hourly.add(bucket == null
+                    ? new HourlyActivity(hour, 0, 0)
+                    : new HourlyActivity(hour, bucket.getRegistrations(), bucket.getCancellations()));
+        }
+
+        int capacity = event.getCapacity();
+        int booked = event.getBooked();
+        return new EventDashboard(eventId, capacity, booked, capacity - booked,
+                Math.max(0, stats.getWaitlisted()), stats.getRegistrations(), stats.getCancellations(), hourly);
+    }
+}
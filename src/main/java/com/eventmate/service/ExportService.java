@@ -0,0 +1,128 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.RegistrationExportRow;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams an organizer's data row by row. Nothing is collected in memory: each body
+ * opens its own read-only transaction, walks a forward-only cursor and writes rows
+ * straight to the response.
+ */
+@Service
+public class ExportService {
+
+    private static final List<String> EVENT_COLUMNS = List.of(
+        "id", "title", "description", "location", "startTime", "endTime", "capacity", "createdAt");
+
+    private static final List<String> REGISTRATION_COLUMNS = List.of(
+        "id", "eventId", "eventTitle", "userId", "attendeeName", "attendeeEmail",
+        "status", "createdAt", "cancelledAt");
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public ExportService(EventRepository eventRepository,
+                         RegistrationRepository registrationRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportEvents(Long organizerId, ExportFormat format) {
+        return body(() -> eventRepository.streamByCreatedBy(organizerId), format, EVENT_COLUMNS,
+            e -> new Object[] {e.id(), e.title(), e.description(), e.location(),
+                e.startTime(), e.endTime(), e.capacity(), e.createdAt()});
+    }
+
+    public StreamingResponseBody exportRegistrations(Long organizerId, ExportFormat format) {
+        return body(() -> registrationRepository.streamForOrganizer(organizerId), format, REGISTRATION_COLUMNS,
+            r -> new Object[] {r.id(), r.eventId(), r.eventTitle(), r.userId(), r.attendeeName(),
+                r.attendeeEmail(), r.status(), r.createdAt(), r.cancelledAt()});
+    }
+
+    private <T> StreamingResponseBody body(Supplier<Stream<T>> rows, ExportFormat format,
+                                           List<String> columns, Function<T, Object[]> csvRow) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(writer, columns, stream.iterator(), csvRow);
+                    } else {
+                        writeNdjson(writer, stream.iterator());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private <T> void writeNdjson(Writer writer, Iterator<T> rows) throws IOException {
+        try (SequenceWriter sequence = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(writer)) {
+            if (!rows.hasNext()) return;
+            while (rows.hasNext()) {
+                sequence.write(rows.next());
+            }
+        }
+        writer.write('\n');
+    }
+
+    private <T> void writeCsv(Writer writer, List<String> columns, Iterator<T> rows,
+                              Function<T, Object[]> toRow) throws IOException {
+        writeCsvLine(writer, columns.toArray());
+        while (rows.hasNext()) {
+            writeCsvLine(writer, toRow.apply(rows.next()));
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            if (values[i] != null) writer.write(csvEscape(values[i].toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvEscape(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,214 @@
+package com.eventmate.service;
+
+import com.eventmate.entity.IdempotencyRecord;
+import com.eventmate.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Remembers the response to each write sent with an {@code Idempotency-Key}, per user, for
+ * {@code eventmate.idempotency.ttl}. The first request claims the key with a row in
+ * {@code idempotency_keys}, so retries reaching another instance see it; the finished response is
+ * written to that row and to an in-memory front cache that answers hot retries. Duplicates
+ * arriving here while the first request still runs wait up to {@code max-wait} for its response
+ * instead of executing, then are told to retry.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public record StoredResponse(byte[] requestHash, int status, String contentType, String location,
+                                 byte[] body, Instant expiresAt) {}
+
+    public enum Outcome {
+        /** The caller runs the request and must then call {@link #complete} or {@link #release}. */
+        EXECUTE,
+        /** The key has been answered; send {@link Claim#response()} back. */
+        REPLAY,
+        /** Another instance holds the claim, or the wait for this one's owner timed out. */
+        IN_PROGRESS
+    }
+
+    public record Claim(Outcome outcome, Long userId, String key, StoredResponse response) {}
+
+    private record Key(Long userId, String key) {}
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Key, StoredResponse> answered;
+    // Completed with the first request's outcome, or with null when it gave its claim up
+    private final ConcurrentMap<Key, CompletableFuture<Claim>> running = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration maxWait;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${eventmate.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${eventmate.idempotency.lease:5m}") Duration lease,
+                              @Value("${eventmate.idempotency.max-wait:5s}") Duration maxWait,
+                              @Value("${eventmate.idempotency.cache-size:10000}") long cacheSize) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.lease = lease;
+        this.maxWait = maxWait;
+        this.answered = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new ExpireWithRecord())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, answered, "idempotency");
+    }
+
+    /**
+     * Decides how to handle a request carrying {@code key}. Blocks up to {@code max-wait} while a
+     * request with the same key runs on this instance.
+     */
+    public Claim claim(Long userId, String key) {
+        Key id = new Key(userId, key);
+        while (true) {
+            StoredResponse cached = answered.getIfPresent(id);
+            if (cached != null) {
+                return new Claim(Outcome.REPLAY, userId, key, cached);
+            }
+            CompletableFuture<Claim> mine = new CompletableFuture<>();
+            CompletableFuture<Claim> first = running.putIfAbsent(id, mine);
+            if (first != null) {
+                Claim outcome = await(first, id);
+                if (outcome != null) {
+                    return outcome;
+                }
+                // the first request failed without storing a response; run it ourselves
+                continue;
+            }
+            Claim claim;
+            try {
+                claim = claimStored(id);
+            } catch (RuntimeException ex) {
+                finish(id, null);
+                throw ex;
+            }
+            if (claim.outcome() != Outcome.EXECUTE) {
+                finish(id, claim);
+            }
+            return claim;
+        }
+    }
+
+    /** Stores the response of a request that claimed its key, and hands it to waiting duplicates. */
+    public void complete(Claim claim, byte[] requestHash, int status, String contentType, String location, byte[] body) {
+        Key id = new Key(claim.userId(), claim.key());
+        StoredResponse response = new StoredResponse(requestHash, status, contentType, location, body,
+                Instant.now().plus(ttl));
+        try {
+            transactionTemplate.executeWithoutResult(tx -> repository.complete(claim.userId(), claim.key(),
+                    requestHash, status, contentType, location, body, response.expiresAt()));
+            answered.put(id, response);
+        } finally {
+            finish(id, new Claim(Outcome.REPLAY, claim.userId(), claim.key(), response));
+        }
+    }
+
+    /** Gives up a claim without storing anything, so the client's retry runs again. */
+    public void release(Claim claim) {
+        Key id = new Key(claim.userId(), claim.key());
+        try {
+            transactionTemplate.executeWithoutResult(tx -> repository.release(claim.userId(), claim.key()));
+        } finally {
+            finish(id, null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventmate.idempotency.purge-interval-ms:600000}",
+               initialDelayString = "${eventmate.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = transactionTemplate.execute(tx -> repository.deleteExpired(Instant.now()));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private Claim claimStored(Key id) {
+        Instant now = Instant.now();
+        Optional<IdempotencyRecord> row = repository.findById(new IdempotencyRecord.Key(id.userId(), id.key()));
+        if (row.isPresent() && row.get().getExpiresAt().isAfter(now)) {
+            IdempotencyRecord record = row.get();
+            if (record.getStatusCode() == null) {
+                return new Claim(Outcome.IN_PROGRESS, id.userId(), id.key(), null);
+            }
+            StoredResponse response = new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                    record.getContentType(), record.getLocation(), record.getBody(), record.getExpiresAt());
+            answered.put(id, response);
+            return new Claim(Outcome.REPLAY, id.userId(), id.key(), response);
+        }
+        Instant leaseUntil = now.plus(lease);
+        boolean claimed;
+        try {
+            claimed = transactionTemplate.execute(tx -> row.isPresent()
+                    ? repository.reclaimExpired(id.userId(), id.key(), now, leaseUntil) == 1
+                    : repository.claim(id.userId(), id.key(), now, leaseUntil) == 1);
+        } catch (DataIntegrityViolationException ex) {
+            claimed = false;   // another instance claimed it first
+        }
+        return new Claim(claimed ? Outcome.EXECUTE : Outcome.IN_PROGRESS, id.userId(), id.key(), null);
+    }
+
+    private void finish(Key id, Claim outcome) {
+        CompletableFuture<Claim> future = running.remove(id);
+        if (future != null) {
+            future.complete(outcome);
+        }
+    }
+
+    private Claim await(CompletableFuture<Claim> first, Key id) {
+        try {
+            return first.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            return new Claim(Outcome.IN_PROGRESS, id.userId(), id.key(), null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new Claim(Outcome.IN_PROGRESS, id.userId(), id.key(), null);
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    private static final class ExpireWithRecord implements Expiry<Key, StoredResponse> {
+        @Override
+        public long expireAfterCreate(Key key, StoredResponse response, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), response.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, StoredResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, StoredResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
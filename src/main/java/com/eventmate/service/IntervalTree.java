@@ -0,0 +1,170 @@
+package com.eventmate.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Half-open intervals {@code [start, end)} in an AVL tree ordered by {@code (start, id)}, each node
+ * also holding the largest end in its subtree. Insert and remove are O(log n); an overlap query is
+ * O(log n + k) for k matches, because subtrees whose max end is at or before the window are skipped.
+ * Not thread-safe.
+ */
+final class IntervalTree<V> {
+
+    private Node<V> root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /** Adds the interval, replacing any with the same {@code start} and {@code id}. */
+    void put(long start, long end, long id, V value) {
+        if (end < start) throw new IllegalArgumentException("end before start");
+        root = insert(root, start, end, id, value);
+    }
+
+    boolean remove(long start, long id) {
+        int before = size;
+        root = delete(root, start, id);
+        return size < before;
+    }
+
+    /** Values of intervals overlapping {@code [from, to)}, in start order. */
+    List<V> overlapping(long from, long to) {
+        List<V> found = new ArrayList<>();
+        forEachOverlapping(from, to, found::add);
+        return found;
+    }
+
+    void forEachOverlapping(long from, long to, Consumer<? super V> action) {
+        visit(root, from, to, action);
+    }
+
+    void forEach(Consumer<? super V> action) {
+        visit(root, Long.MIN_VALUE, Long.MAX_VALUE, action);
+    }
+
+    private static <V> void visit(Node<V> node, long from, long to, Consumer<? super V> action) {
+        while (node != null && node.maxEnd > from) {
+            visit(node.left, from, to, action);
+            // right subtree starts at or after this node
+            if (node.start >= to) return;
+            if (node.end > from) action.accept(node.value);
+            node = node.right;
+        }
+    }
+
+    private Node<V> insert(Node<V> node, long start, long end, long id, V value) {
+        if (node == null) {
+            size++;
+            return new Node<>(start, end, id, value);
+        }
+        int cmp = compare(start, id, node);
+        if (cmp == 0) {
+            node.end = end;
+            node.value = value;
+        } else if (cmp < 0) {
+            node.left = insert(node.left, start, end, id, value);
+        } else {
+            node.right = insert(node.right, start, end, id, value);
+        }
+        return rebalance(node);
+    }
+
+    private Node<V> delete(Node<V> node, long start, long id) {
+        if (node == null) return null;
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            Node<V> successor = node.right;
+            while (successor.left != null) successor = successor.left;
+            node.right = removeMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node<V> removeMin(Node<V> node) {
+        if (node.left == null) return node.right;
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private Node<V> rebalance(Node<V> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        if (node.right != null) maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<V> {
+        final long start;
+        final long id;
+        long end;
+        long maxEnd;
+        int height = 1;
+        V value;
+        Node<V> left;
+        Node<V> right;
+
+        Node(long start, long end, long id, V value) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.eventmate.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Used when no SMTP server is configured, e.g. local development.
+@Slf4j
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(Notification notification) {
+        log.info("Notification to {}: {}", notification.to(), notification.subject());
+    }
+}
@@ -0,0 +1,7 @@
+package com.eventmate.service;
+
+public record Notification(
+    String to,
+    String subject,
+    String body
+) {}
@@ -0,0 +1,241 @@
+package com.eventmate.service;
+
+import com.eventmate.config.VirtualThreads;
+import com.eventmate.entity.NotificationOutbox;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox in batches. Rows are claimed with SKIP LOCKED in a short
+ * transaction that leases them for {@code lease-ms}. Event-wide rows are first replaced by one
+ * row per confirmed attendee, so a failed delivery is retried for that attendee alone. Claimed
+ * rows are coalesced so that several changes to one event produce a single message per attendee. Messages are sent
+ * outside any transaction, concurrently on virtual threads bounded by
+ * {@code max-concurrent-sends}; a second short transaction then records the outcome. Failed
+ * rows are retried after an exponential backoff starting at {@code retry-backoff-ms}.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final NotificationSender sender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration coalesceWindow;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Semaphore sendPermits;
+    private final ExecutorService workers;
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository,
+                                  EventRepository eventRepository,
+                                  UserRepository userRepository,
+                                  NotificationSender sender,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${eventmate.notifications.batch-size:100}") int batchSize,
+                                  @Value("${eventmate.notifications.max-attempts:5}") int maxAttempts,
+                                  @Value("${eventmate.notifications.coalesce-window-ms:2000}") long coalesceWindowMs,
+                                  @Value("${eventmate.notifications.max-concurrent-sends:16}") int maxConcurrentSends,
+                                  @Value("${eventmate.notifications.lease-ms:300000}") long leaseMs,
+                                  @Value("${eventmate.notifications.retry-backoff-ms:30000}") long retryBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.sender = sender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.coalesceWindow = Duration.ofMillis(coalesceWindowMs);
+        this.lease = Duration.ofMillis(leaseMs);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.sendPermits = new Semaphore(maxConcurrentSends);
+        this.workers = VirtualThreads.newPerTaskExecutor("notify-", maxConcurrentSends);
+    }
+
+    @Scheduled(fixedDelayString = "${eventmate.notifications.poll-interval-ms:5000}",
+               initialDelayString = "${eventmate.notifications.poll-interval-ms:5000}")
+    public void poll() {
+        int claimed;
+        do {
+            claimed = dispatchPending();
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * Claims and delivers one batch. Rows younger than the coalesce window are left for the
+     * next run so bursts of updates to the same event collapse into one message.
+     *
+     * @return number of outbox rows claimed
+     */
+    public int dispatchPending() {
+        List<NotificationOutbox> batch = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<NotificationOutbox> rows;
+            List<Long> eventWide;
+            do {
+                rows = outboxRepository.claimPending(now.minus(coalesceWindow), now, PageRequest.of(0, batchSize));
+                eventWide = rows.stream().filter(row -> row.getUserId() == null).map(NotificationOutbox::getId).toList();
+                // in id order, so the per-attendee rows keep the order of the changes
+                eventWide.forEach(outboxRepository::expandToAttendees);
+                if (!eventWide.isEmpty()) outboxRepository.markProcessed(eventWide, now);
+            } while (!eventWide.isEmpty());
+            if (!rows.isEmpty()) {
+                outboxRepository.leaseClaimed(rows.stream().map(NotificationOutbox::getId).toList(), now.plus(lease));
+            }
+            return rows;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // no transaction or connection is held while the mail server answers
+        Set<Long> failed = deliver(coalesce(batch));
+
+        Set<Long> delivered = batch.stream().map(NotificationOutbox::getId)
+                .filter(id -> !failed.contains(id))
+                .collect(Collectors.toSet());
+        Map<Integer, List<Long>> failedByAttempts = batch.stream()
+                .filter(row -> failed.contains(row.getId()))
+                .collect(Collectors.groupingBy(NotificationOutbox::getAttempts,
+                        Collectors.mapping(NotificationOutbox::getId, Collectors.toList())));
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) outboxRepository.markProcessed(delivered, now);
+            failedByAttempts.forEach((attempts, ids) ->
+                    outboxRepository.markFailed(ids, maxAttempts, now, now.plus(backoff(attempts))));
+        });
+        return batch.size();
+    }
+
+    // retry-backoff-ms after the first failure, doubling with each further one
+    private Duration backoff(int previousAttempts) {
+        return retryBackoff.multipliedBy(1L << Math.min(previousAttempts, 10));
+    }
+
+    private List<Delivery> coalesce(List<NotificationOutbox> batch) {
+        Map<Recipient, Set<Long>> plan = new LinkedHashMap<>();
+        Map<Long, String> titles = new HashMap<>();
+
+        for (NotificationOutbox row : batch) {
+            // rows come in id order, so the last title seen is the latest one
+            if (row.getEventTitle() != null) titles.put(row.getEventId(), row.getEventTitle());
+            plan.computeIfAbsent(new Recipient(row.getUserId(), row.getEventId(), row.getType()), k -> new HashSet<>())
+                    .add(row.getId());
+        }
+
+        // a cancellation makes any pending update for the same attendee moot
+        Set<Recipient> cancelled = plan.keySet().stream()
+                .filter(r -> r.type() == NotificationOutbox.Type.EVENT_CANCELLED)
+                .collect(Collectors.toSet());
+        plan.entrySet().removeIf(entry -> {
+            Recipient r = entry.getKey();
+            if (r.type() != NotificationOutbox.Type.EVENT_UPDATED) return false;
+            Recipient asCancelled = new Recipient(r.userId(), r.eventId(), NotificationOutbox.Type.EVENT_CANCELLED);
+            if (!cancelled.contains(asCancelled)) return false;
+            plan.get(asCancelled).addAll(entry.getValue());
+            return true;
+        });
+
+        Set<Long> missingTitles = plan.keySet().stream().map(Recipient::eventId)
+                .filter(id -> !titles.containsKey(id))
+                .collect(Collectors.toSet());
+        eventRepository.findAllById(missingTitles).forEach(e -> titles.put(e.getId(), e.getTitle()));
+
+        Map<Long, String> emails = userRepository.findAllById(
+                        plan.keySet().stream().map(Recipient::userId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getId, User::getEmail, (a, b) -> a));
+
+        List<Delivery> deliveries = new ArrayList<>(plan.size());
+        plan.forEach((r, rowIds) -> {
+            String email = emails.get(r.userId());
+            if (email == null) return; // user is gone, nothing to deliver
+            String title = titles.getOrDefault(r.eventId(), "your event");
+            deliveries.add(new Delivery(toMessage(r.type(), email, title), rowIds));
+        });
+        return deliveries;
+    }
+
+    // Returns the ids of outbox rows with at least one failed delivery.
+    private Set<Long> deliver(List<Delivery> deliveries) {
+        Map<Future<?>, Set<Long>> pending = new LinkedHashMap<>();
+        for (Delivery delivery : deliveries) {
+            pending.put(workers.submit(() -> {
+                send(delivery.message());
+                return null;
+            }), delivery.rowIds());
+        }
+
+        Set<Long> failed = new HashSet<>();
+        pending.forEach((future, rowIds) -> {
+            try {
+                future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failed.addAll(rowIds);
+            } catch (Exception ex) {
+                log.warn("Notification delivery failed: {}", ex.getMessage());
+                failed.addAll(rowIds);
+            }
+        });
+        return failed;
+    }
+
+    private void send(Notification notification) throws InterruptedException {
+        sendPermits.acquire();
+        try {
+            sender.send(notification);
+        } finally {
+            sendPermits.release();
+        }
+    }
+
+    static Notification toMessage(NotificationOutbox.Type type, String to, String title) {
+        return switch (type) {
+            case EVENT_UPDATED -> new Notification(to, "Event updated: " + title,
+                    "The details of \"" + title + "\" have changed. Check the event page for the latest schedule.");
+            case EVENT_CANCELLED -> new Notification(to, "Event cancelled: " + title,
+                    "\"" + title + "\" has been cancelled by the organizer.");
+            case REGISTRATION_CONFIRMED -> new Notification(to, "Registration confirmed: " + title,
+                    "You are registered for \"" + title + "\".");
+            case REGISTRATION_CANCELLED -> new Notification(to, "Registration cancelled: " + title,
+                    "Your registration for \"" + title + "\" has been cancelled.");
+            case WAITLISTED -> new Notification(to, "Waitlisted: " + title,
+                    "\"" + title + "\" is full. You are on the waitlist and will get a seat as soon as one frees up.");
+            case WAITLIST_PROMOTED -> new Notification(to, "Registration confirmed: " + title,
+                    "A seat opened up and you are now registered for \"" + title + "\".");
+            case EVENT_REMINDER -> new Notification(to, "Reminder: " + title,
+                    "\"" + title + "\" is coming up soon. Check the event page for the time and place.");
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private record Recipient(Long userId, Long eventId, NotificationOutbox.Type type) {}
+
+    private record Delivery(Notification message, Set<Long> rowIds) {}
+}
@@ -0,0 +1,10 @@
+package com.eventmate.service;
+
+/**
+ * Delivery channel for outbox notifications. Implementations are called from dispatcher
+ * worker threads and may block.
+ */
+public interface NotificationSender {
+
+    void send(Notification notification);
+}
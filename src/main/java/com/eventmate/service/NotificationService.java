@@ -1,5 +1,75 @@
 package com.eventmate.service;
 
+import com.eventmate.entity.Event;
+import com.eventmate.entity.NotificationOutbox;
+import com.eventmate.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Records notifications in the outbox as part of the caller's transaction, so a
+ * notification exists exactly when the change it announces commits. Delivery happens
+ * later, off the request thread, in {@link NotificationDispatcher}.
+ */
+@Service
+@RequiredArgsConstructor
 public class NotificationService {
-    
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void eventUpdated(Event event) {
+        enqueue(event.getId(), null, NotificationOutbox.Type.EVENT_UPDATED, event.getTitle());
+    }
+
+    // Must run before the event is deleted: attendees are captured from its registrations.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void eventCancelled(Event event) {
+        outboxRepository.enqueueForAttendees(event.getId(), NotificationOutbox.Type.EVENT_CANCELLED,
+                event.getTitle(), Instant.now());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrationConfirmed(Long userId, Long eventId) {
+        enqueue(eventId, userId, NotificationOutbox.Type.REGISTRATION_CONFIRMED, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrationCancelled(Long userId, Long eventId) {
+        enqueue(eventId, userId, NotificationOutbox.Type.REGISTRATION_CANCELLED, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void waitlisted(Long userId, Long eventId) {
+        enqueue(eventId, userId, NotificationOutbox.Type.WAITLISTED, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void promotedFromWaitlist(Long userId, Long eventId) {
+        enqueue(eventId, userId, NotificationOutbox.Type.WAITLIST_PROMOTED, null);
+    }
+
+    /**
+     * Queues a reminder for every event starting in {@code (from, to]} that has not started yet,
+     * as one set-based insert. Returns the number of events reminded of.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int eventReminders(Instant from, Instant to) {
+        Instant now = Instant.now();
+        return outboxRepository.enqueueReminders(from, to, now);
+    }
+
+    private void enqueue(Long eventId, Long userId, NotificationOutbox.Type type, String title) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .eventId(eventId)
+                .userId(userId)
+                .type(type)
+                .eventTitle(title)
+                .createdAt(Instant.now())
+                .build());
+    }
 }
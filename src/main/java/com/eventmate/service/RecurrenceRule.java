@@ -0,0 +1,155 @@
+package com.eventmate.service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The part of an RFC 5545 RRULE that event series use: {@code FREQ} (DAILY, WEEKLY or MONTHLY),
+ * {@code INTERVAL}, {@code BYDAY} (weekly rules only) and exactly one of {@code COUNT} or
+ * {@code UNTIL}, e.g. {@code FREQ=WEEKLY;BYDAY=TU,TH;COUNT=52}. Occurrences are generated in
+ * the series' time zone, so a 19:00 meetup stays at 19:00 local time across DST changes.
+ */
+public record RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, Instant until) {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    static final int MAX_INTERVAL = 366;
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY, "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+    public RecurrenceRule {
+        if (frequency == null) throw new IllegalArgumentException("recurrence needs FREQ");
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL must be between 1 and " + MAX_INTERVAL);
+        }
+        if ((count == null) == (until == null)) {
+            throw new IllegalArgumentException("recurrence needs exactly one of COUNT or UNTIL");
+        }
+        if (count != null && count < 1) throw new IllegalArgumentException("COUNT must be > 0");
+        byDay = byDay == null || byDay.isEmpty() ? Set.of() : Set.copyOf(byDay);
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+    }
+
+    public static RecurrenceRule parse(String text) {
+        if (text == null || text.isBlank()) throw new IllegalArgumentException("recurrence must not be blank");
+        String body = text.strip();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) body = body.substring(6);
+
+        Map<String, String> parts = new LinkedHashMap<>();
+        for (String part : body.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0 || parts.put(part.substring(0, eq).strip().toUpperCase(), part.substring(eq + 1).strip()) != null) {
+                throw new IllegalArgumentException("Malformed recurrence part: " + part);
+            }
+        }
+        try {
+            Frequency frequency = Frequency.valueOf(required(parts, "FREQ").toUpperCase());
+            int interval = parts.containsKey("INTERVAL") ? Integer.parseInt(parts.remove("INTERVAL")) : 1;
+            Set<DayOfWeek> byDay = parts.containsKey("BYDAY") ? parseDays(parts.remove("BYDAY")) : Set.of();
+            Integer count = parts.containsKey("COUNT") ? Integer.valueOf(parts.remove("COUNT")) : null;
+            Instant until = parts.containsKey("UNTIL") ? parseUntil(parts.remove("UNTIL")) : null;
+            if (!parts.isEmpty()) {
+                throw new IllegalArgumentException("Unsupported recurrence parts: " + String.join(", ", parts.keySet()));
+            }
+            return new RecurrenceRule(frequency, interval, byDay, count, until);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed number in recurrence: " + text);
+        }
+    }
+
+    /**
+     * Occurrence starts in order, beginning with {@code first}, which must itself match the rule.
+     * Stops after {@code limit} starts or once the next one would be past {@code until}/{@code COUNT}.
+     */
+    public List<ZonedDateTime> expand(ZonedDateTime first, int limit) {
+        if (frequency == Frequency.WEEKLY && !byDay.isEmpty() && !byDay.contains(first.getDayOfWeek())) {
+            throw new IllegalArgumentException("startTime must fall on one of the BYDAY days");
+        }
+        List<ZonedDateTime> starts = new ArrayList<>();
+        int max = count == null ? limit : Math.min(limit, count);
+        LocalDate firstDate = first.toLocalDate();
+        for (long period = 0; starts.size() < max; period += interval) {
+            for (LocalDate date : datesInPeriod(firstDate, period)) {
+                if (date.isBefore(firstDate)) continue;
+                ZonedDateTime start = ZonedDateTime.of(date, first.toLocalTime(), first.getZone());
+                if ((until != null && start.toInstant().isAfter(until)) || starts.size() == max) return starts;
+                starts.add(start);
+            }
+        }
+        return starts;
+    }
+
+    private List<LocalDate> datesInPeriod(LocalDate first, long period) {
+        return switch (frequency) {
+            case DAILY -> List.of(first.plusDays(period));
+            case WEEKLY -> {
+                LocalDate monday = first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(period);
+                Set<DayOfWeek> days = byDay.isEmpty() ? Set.of(first.getDayOfWeek()) : byDay;
+                yield EnumSet.copyOf(days).stream().map(day -> monday.plusDays(day.ordinal())).toList();
+            }
+            // months without that day (the 31st in April) are skipped, as RFC 5545 does
+            case MONTHLY -> {
+                YearMonth month = YearMonth.from(first).plusMonths(period);
+                yield month.isValidDay(first.getDayOfMonth()) ? List.of(month.atDay(first.getDayOfMonth())) : List.of();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) rule.append(";INTERVAL=").append(interval);
+        if (!byDay.isEmpty()) {
+            rule.append(";BYDAY=").append(EnumSet.copyOf(byDay).stream()
+                    .map(day -> day.name().substring(0, 2)).collect(Collectors.joining(",")));
+        }
+        if (count != null) rule.append(";COUNT=").append(count);
+        if (until != null) rule.append(";UNTIL=").append(UNTIL_FORMAT.format(until.atOffset(ZoneOffset.UTC)));
+        return rule.toString();
+    }
+
+    private static String required(Map<String, String> parts, String name) {
+        String value = parts.remove(name);
+        if (value == null) throw new IllegalArgumentException("recurrence needs " + name);
+        return value;
+    }
+
+    private static Set<DayOfWeek> parseDays(String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String code : value.split(",")) {
+            DayOfWeek day = DAYS.get(code.strip().toUpperCase());
+            if (day == null) throw new IllegalArgumentException("Unsupported BYDAY value: " + code);
+            days.add(day);
+        }
+        return days;
+    }
+
+    // The RFC's UTC form (20261231T235959Z) or an ISO-8601 instant.
+    private static Instant parseUntil(String value) {
+        try {
+            return value.contains("-") ? Instant.parse(value)
+                    : LocalDateTime.parse(value.toUpperCase(), UNTIL_FORMAT).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("UNTIL must be a UTC date-time such as 20261231T235959Z");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.eventmate.service;
+
+import java.time.Instant;
+
+/**
+ * Published by {@link RegistrationService} inside the write transaction, once per registration
+ * whose status changed. Listeners that must only see committed changes use
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.
+ */
+public record RegistrationChangedEvent(Long eventId, Long userId, Transition transition, Instant at) {
+
+    public enum Transition {
+        CONFIRMED, WAITLISTED, PROMOTED, CANCELLED, LEFT_WAITLIST
+    }
+}
@@ -1,5 +1,166 @@
 package com.eventmate.service;
 
+import com.eventmate.entity.Registration;
+import com.eventmate.exception.ConflictException;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.service.RegistrationChangedEvent.Transition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
 public class RegistrationService {
-    
+
+    private final RegistrationRepository registrationRepository;
+    private final EventRepository eventRepository;
+    private final NotificationService notificationService;
+    private final UserCalendarIndex calendarIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Books a seat for the user. The seat is taken by a single conditional UPDATE on the
+     * event row, issued as the last statement, so the row lock is only held until commit
+     * and concurrent bookings can never push {@code booked} past {@code capacity}.
+     * When the event is full the registration is put on the waitlist instead. With
+     * {@code eventmate.calendar.conflicts=block} a registration overlapping another one of
+     * the user's is refused.
+     */
+    @Transactional
+    public Registration register(Long userId, Long eventId) {
+        calendarIndex.checkConflicts(userId, eventId);
+        Instant now = Instant.now();
+        Registration registration = registrationRepository.findByEventIdAndUserId(eventId, userId).orElse(null);
+
+        if (registration == null) {
+            registration = Registration.builder()
+                    .eventId(eventId)
+                    .userId(userId)
+                    .status(Registration.Status.CONFIRMED)
+                    .createdAt(now)
+                    .build();
+            try {
+                registration = registrationRepository.saveAndFlush(registration);
+            } catch (DataIntegrityViolationException ex) {
+                requireEvent(eventId);
+                throw new ConflictException("Already registered for this event");
+            }
+        } else if (registrationRepository.reactivate(registration.getId(), now) == 1) {
+            registration.setStatus(Registration.Status.CONFIRMED);
+            registration.setCreatedAt(now);
+            registration.setCancelledAt(null);
+        } else {
+            throw new ConflictException("Already registered for this event");
+        }
+
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            // Join the waitlist holding the event row lock: a cancellation that found the waitlist
+            // empty either committed first, freeing the seat taken below, or re-checks after us.
+            if (eventRepository.lockSeats(eventId) == 0) {
+                throw new IllegalArgumentException("Event not found");
+            }
+            if (eventRepository.reserveSeat(eventId) == 0) {
+                registrationRepository.moveToWaitlist(registration.getId());
+                registration.setStatus(Registration.Status.WAITLISTED);
+                notificationService.waitlisted(userId, eventId);
+                changed(eventId, userId, Transition.WAITLISTED);
+                return registration;
+            }
+        }
+        notificationService.registrationConfirmed(userId, eventId);
+        changed(eventId, userId, Transition.CONFIRMED);
+        return registration;
+    }
+
+    @Transactional
+    public void cancel(Long userId, Long eventId) {
+        Registration registration = registrationRepository.findByEventIdAndUserId(eventId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+        Long id = registration.getId();
+        Instant now = Instant.now();
+
+        // The loaded status is stale if a promotion committed since; try the likely transition first.
+        boolean waitlisted = registration.getStatus() == Registration.Status.WAITLISTED;
+        Transition transition;
+        if (waitlisted && registrationRepository.leaveWaitlist(id, now) == 1) {
+            transition = Transition.LEFT_WAITLIST;
+        } else if (registrationRepository.cancel(id, now) == 1) {
+            transition = Transition.CANCELLED;
+            passSeatOn(eventId);
+        } else if (!waitlisted && registrationRepository.leaveWaitlist(id, now) == 1) {
+            transition = Transition.LEFT_WAITLIST;
+        } else {
+            throw new ConflictException("Registration is already cancelled");
+        }
+        notificationService.registrationCancelled(userId, eventId);
+        changed(eventId, userId, transition);
+    }
+
+    /**
+     * Hands seats freed by a capacity increase to the head of the waitlist. Runs in the
+     * caller's transaction after the new capacity has been written.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int fillFromWaitlist(Long eventId) {
+        int promoted = 0;
+        while (eventRepository.reserveSeat(eventId) == 1) {
+            if (!promoteNext(eventId)) {
+                eventRepository.releaseSeat(eventId);
+                break;
+            }
+            promoted++;
+        }
+        return promoted;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Registration> getForUser(Long userId) {
+        return registrationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * Gives a seat just given up to the next waitlisted registration. The seat moves from one
+     * registration to the other without touching the event row, so cancellations on a busy
+     * event only contend on the waitlist rows they claim. Only when the waitlist is empty is
+     * the seat returned to the pool, and then the waitlist is checked once more under the
+     * event row lock for a registrant that joined while we waited for it.
+     */
+    private void passSeatOn(Long eventId) {
+        if (promoteNext(eventId)) {
+            return;
+        }
+        eventRepository.releaseSeat(eventId);
+        if (promoteNext(eventId)) {
+            eventRepository.reserveSeat(eventId);
+        }
+    }
+
+    private boolean promoteNext(Long eventId) {
+        for (Registration next : registrationRepository.claimWaitlisted(eventId, PageRequest.ofSize(1))) {
+            if (registrationRepository.promote(next.getId()) == 1) {
+                notificationService.promotedFromWaitlist(next.getUserId(), eventId);
+                changed(eventId, next.getUserId(), Transition.PROMOTED);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void changed(Long eventId, Long userId, Transition transition) {
+        eventPublisher.publishEvent(new RegistrationChangedEvent(eventId, userId, transition, Instant.now()));
+    }
+
+    private void requireEvent(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found");
+        }
+    }
 }
@@ -0,0 +1,195 @@
+package com.eventmate.service;
+
+import com.eventmate.config.SchedulingConfig;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.entity.SchedulerState;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.SchedulerStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Queues attendee reminders at {@code eventmate.reminders.offsets} before each event starts.
+ * <p>
+ * Every {@code reload-ms} the due times of the next {@code window} are read with a range scan on
+ * {@code start_time} and put into a {@link TimingWheel}; nothing further ahead is held in memory.
+ * When the wheel says something is due, one transaction locks the {@code scheduler_state} row,
+ * queues a reminder for every event whose reminder fell due since its high-water mark (a range
+ * scan per offset, inserted into the outbox as one statement) and moves the mark forward. The
+ * mark commits with the outbox rows, so neither a restart nor a second instance sends anything
+ * twice. After downtime an event may have several reminders due at once; it only gets the nearest. The database, not the wheel, decides what is due, so events created or moved inside the
+ * loaded window are reminded of at the latest on the next reload.
+ */
+@Slf4j
+@Component
+public class ReminderScheduler {
+
+    static final String JOB = "event-reminders";
+
+    private final SchedulerStateRepository stateRepository;
+    private final EventRepository eventRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    // largest first
+    private final List<Duration> offsets;
+    private final Duration window;
+    private final TimingWheel<Instant> wheel;
+    private Instant plannedUntil;
+
+    public ReminderScheduler(SchedulerStateRepository stateRepository,
+                             EventRepository eventRepository,
+                             NotificationService notificationService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${eventmate.reminders.offsets:24h,1h}") List<Duration> offsets,
+                             @Value("${eventmate.reminders.window:10m}") Duration window,
+                             @Value("${eventmate.reminders.tick-ms:1000}") long tickMs) {
+        this.stateRepository = stateRepository;
+        this.eventRepository = eventRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.offsets = offsets.stream().sorted(Comparator.reverseOrder()).toList();
+        this.window = window;
+        Instant now = Instant.now();
+        this.wheel = new TimingWheel<>(tickMs, 3, now.toEpochMilli());
+        if (window.toMillis() >= wheel.spanMillis()) {
+            throw new IllegalArgumentException("eventmate.reminders.window must be shorter than "
+                    + Duration.ofMillis(wheel.spanMillis()));
+        }
+        this.plannedUntil = now;
+    }
+
+    /**
+     * Catches up on anything due since the high-water mark, then loads the due times of the
+     * next window into the wheel.
+     */
+    @Scheduled(fixedDelayString = "${eventmate.reminders.reload-ms:60000}",
+               initialDelayString = "${eventmate.reminders.initial-delay-ms:10000}")
+    public void plan() {
+        Instant now = Instant.now();
+        fireDue(now);
+        Instant until = now.plus(window);
+        Instant from;
+        synchronized (wheel) {
+            from = plannedUntil.isAfter(now) ? plannedUntil : now;
+            plannedUntil = until;
+        }
+        if (!until.isAfter(from)) {
+            return;
+        }
+        for (Duration offset : offsets) {
+            List<Instant> starts = eventRepository.findStartTimes(from.plus(offset), until.plus(offset));
+            synchronized (wheel) {
+                for (Instant start : starts) {
+                    Instant due = start.minus(offset);
+                    wheel.add(due.toEpochMilli(), due);
+                }
+            }
+        }
+    }
+
+    /** Advances the wheel and, if any planned reminder came due, queues everything due up to now. */
+    @Scheduled(scheduler = SchedulingConfig.REALTIME,
+               fixedDelayString = "${eventmate.reminders.tick-ms:1000}",
+               initialDelayString = "${eventmate.reminders.tick-ms:1000}")
+    public void tick() {
+        Instant now = Instant.now();
+        boolean[] due = {false};
+        synchronized (wheel) {
+            wheel.advance(now.toEpochMilli(), item -> due[0] = true);
+        }
+        if (due[0]) {
+            fireDue(now);
+        }
+    }
+
+    // A moved event's new reminders are planned if they fall in the loaded window; the old ones
+    // find nothing at their time. Reminders whose time has already passed are not sent: attendees
+    // get the event-updated notification instead.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.kind() != EventChangedEvent.Kind.UPDATED) {
+            return;
+        }
+        Optional<EventResponse> event = eventRepository.findResponseById(change.eventId());
+        if (event.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        synchronized (wheel) {
+            for (Duration offset : offsets) {
+                Instant due = event.get().startTime().minus(offset);
+                if (due.isAfter(now) && !due.isAfter(plannedUntil)) {
+                    wheel.add(due.toEpochMilli(), due);
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues reminders due in (high-water mark, upTo] and moves the mark to {@code upTo}. An event
+     * with reminders for several offsets due in the range gets only the one for the smallest.
+     *
+     * @return number of reminders queued
+     */
+    public int fireDue(Instant upTo) {
+        ensureState();
+        Integer queued = transactionTemplate.execute(status -> {
+            SchedulerState state = stateRepository.findForUpdate(JOB).orElseThrow();
+            Instant highWater = state.getHighWater();
+            if (!upTo.isAfter(highWater)) {
+                return 0;
+            }
+            int count = 0;
+            for (int i = 0; i < offsets.size(); i++) {
+                Duration offset = offsets.get(i);
+                Instant from = highWater.plus(offset);
+                // events whose reminder for the next smaller offset is due as well are left to that one
+                if (i + 1 < offsets.size() && upTo.plus(offsets.get(i + 1)).isAfter(from)) {
+                    from = upTo.plus(offsets.get(i + 1));
+                }
+                Instant to = upTo.plus(offset);
+                if (to.isAfter(from)) {
+                    count += notificationService.eventReminders(from, to);
+                }
+            }
+            state.setHighWater(upTo);
+            return count;
+        });
+        if (queued != null && queued > 0) {
+            log.debug("Queued {} event reminders due up to {}", queued, upTo);
+        }
+        return queued == null ? 0 : queued;
+    }
+
+    int planned() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    // The migration seeds the row; schemas built from the entities start from the first run instead.
+    private void ensureState() {
+        if (stateRepository.existsById(JOB)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    stateRepository.saveAndFlush(new SchedulerState(JOB, Instant.now())));
+        } catch (DataIntegrityViolationException ex) {
+            // another instance created it first
+        }
+    }
+}
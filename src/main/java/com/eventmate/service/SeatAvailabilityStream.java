@@ -0,0 +1,245 @@
+package com.eventmate.service;
+
+import com.eventmate.config.SchedulingConfig;
+import com.eventmate.config.VirtualThreads;
+import com.eventmate.dto.SeatAvailability;
+import com.eventmate.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live seat counts over server-sent events. All subscribers of an event share one channel:
+ * committed changes only mark the event dirty, and every {@code coalesce-ms} one query reads
+ * the seats of all dirty events, so a burst of bookings costs one read and one message per
+ * subscriber. Subscribed events are also re-read every {@code resync-ms} to pick up changes
+ * committed on other instances.
+ * <p>
+ * Each connection holds at most one undelivered snapshot, replaced by newer ones, and is
+ * written on its own sender task. Every publish drops the connections whose current write
+ * started more than {@code slow-consumer-timeout-ms} ago, as does a write that finds the sender
+ * pool full; the client reconnects and starts from a fresh snapshot. The blocked write itself
+ * ends at the connector's write timeout ({@code server.tomcat.connection-timeout}).
+ */
+@Slf4j
+@Component
+public class SeatAvailabilityStream {
+
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final EventRepository eventRepository;
+    private final ExecutorService senders;
+    private final Counter dropped;
+    private final long emitterTimeoutMs;
+    private final long slowConsumerTimeoutNanos;
+    private final long resyncNanos;
+    private volatile long lastResync = System.nanoTime();
+
+    public SeatAvailabilityStream(EventRepository eventRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${eventmate.seats.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                                  @Value("${eventmate.seats.stream.slow-consumer-timeout-ms:10000}") long slowConsumerTimeoutMs,
+                                  @Value("${eventmate.seats.stream.resync-ms:5000}") long resyncMs,
+                                  @Value("${eventmate.seats.stream.sender-threads:16}") int senderThreads,
+                                  @Value("${eventmate.seats.stream.sender-max-threads:256}") int senderMaxThreads) {
+        this.eventRepository = eventRepository;
+        this.senders = VirtualThreads.newPerTaskExecutor("seats-sse-", senderThreads, senderMaxThreads);
+        this.dropped = meterRegistry.counter("eventmate.seats.stream.dropped");
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.slowConsumerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(slowConsumerTimeoutMs);
+        this.resyncNanos = TimeUnit.MILLISECONDS.toNanos(resyncMs);
+        meterRegistry.gauge("eventmate.seats.stream.subscribers", subscriberCount);
+    }
+
+    public SseEmitter subscribe(Long eventId) {
+        return subscribe(eventId, new SseEmitter(emitterTimeoutMs));
+    }
+
+    SseEmitter subscribe(Long eventId, SseEmitter emitter) {
+        Channel existing = channels.get(eventId);
+        SeatAvailability current = existing != null && existing.last != null ? existing.last
+                : eventRepository.findSeats(List.of(eventId)).stream().findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(ex -> subscriber.remove());
+        Channel channel = channels.compute(eventId, (id, c) -> {
+            c = c != null ? c : new Channel();
+            if (c.last == null) c.last = current;
+            c.subscribers.add(subscriber);
+            return c;
+        });
+        subscriberCount.incrementAndGet();
+        // Read after joining the channel, so anything newer reaches the mailbox. The first snapshot
+        // is sent on the request thread: the emitter buffers it and the response is committed when
+        // the controller returns, before any sender task may write to it.
+        subscriber.mailbox.compareAndSet(null, channel.last);
+        subscriber.drain();
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRegistrationChanged(RegistrationChangedEvent change) {
+        markDirty(change.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.kind() == EventChangedEvent.Kind.DELETED) {
+            Channel channel = channels.remove(change.eventId());
+            if (channel != null) channel.subscribers.forEach(s -> s.emitter.complete());
+        } else {
+            markDirty(change.eventId());
+        }
+    }
+
+    private void markDirty(Long eventId) {
+        if (channels.containsKey(eventId)) dirty.add(eventId);
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.REALTIME,
+               fixedDelayString = "${eventmate.seats.stream.coalesce-ms:250}",
+               initialDelayString = "${eventmate.seats.stream.coalesce-ms:250}")
+    public void publish() {
+        dropStalled();
+        List<Long> ids = new ArrayList<>();
+        if (System.nanoTime() - lastResync >= resyncNanos) {
+            lastResync = System.nanoTime();
+            dirty.clear();
+            ids.addAll(channels.keySet());
+        } else {
+            for (Long id : dirty) {
+                if (dirty.remove(id)) ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) return;
+
+        for (SeatAvailability seats : eventRepository.findSeats(ids)) {
+            Channel channel = channels.get(seats.eventId());
+            if (channel == null || seats.equals(channel.last)) continue;
+            channel.last = seats;
+            channel.subscribers.forEach(s -> s.offer(seats));
+        }
+    }
+
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                long started = subscriber.sendStarted;
+                if (started != 0 && now - started > slowConsumerTimeoutNanos) subscriber.drop();
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    private static final class Channel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        volatile SeatAvailability last;
+    }
+
+    private final class Subscriber {
+        final Long eventId;
+        final SseEmitter emitter;
+        final AtomicReference<SeatAvailability> mailbox = new AtomicReference<>();
+        // held by the subscribing request thread until the first snapshot is sent
+        final AtomicBoolean sending = new AtomicBoolean(true);
+        final AtomicBoolean removed = new AtomicBoolean();
+        // start of the write in progress, 0 between writes
+        volatile long sendStarted;
+
+        Subscriber(Long eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+
+        void offer(SeatAvailability seats) {
+            mailbox.set(seats);
+            if (sending.compareAndSet(false, true)) submit();
+        }
+
+        private void submit() {
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                sending.set(false);
+                drop();
+            }
+        }
+
+        // Sends the newest snapshot until the mailbox stays empty; one drain runs at a time.
+        void drain() {
+            try {
+                SeatAvailability seats;
+                while (!removed.get() && (seats = mailbox.getAndSet(null)) != null) {
+                    sendStarted = System.nanoTime();
+                    emitter.send(SseEmitter.event().name("seats").data(seats, MediaType.APPLICATION_JSON));
+                    sendStarted = 0;
+                }
+            } catch (IOException | IllegalStateException ex) {
+                remove();
+                emitter.completeWithError(ex);
+                return;
+            } finally {
+                sendStarted = 0;
+                sending.set(false);
+            }
+            if (removed.get()) {
+                emitter.complete();   // dropped while this write was blocked
+            } else if (mailbox.get() != null && sending.compareAndSet(false, true)) {
+                submit();
+            }
+        }
+
+        // Never waits on the emitter: completing it while a write is blocked would block too, so
+        // that is left to the drain once the write returns or times out.
+        void drop() {
+            if (!remove()) return;
+            dropped.increment();
+            log.debug("Dropping slow seat stream subscriber of event {}", eventId);
+            if (sending.compareAndSet(false, true)) emitter.complete();
+        }
+
+        boolean remove() {
+            if (!removed.compareAndSet(false, true)) return false;
+            subscriberCount.decrementAndGet();
+            channels.computeIfPresent(eventId, (id, channel) -> {
+                channel.subscribers.remove(this);
+                return channel.subscribers.isEmpty() ? null : channel;
+            });
+            return true;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.eventmate.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@RequiredArgsConstructor
+public class SmtpNotificationSender implements NotificationSender {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    @Override
+    public void send(Notification notification) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(notification.to());
+        message.setSubject(notification.subject());
+        message.setText(notification.body());
+        mailSender.send(message);
+    }
+}
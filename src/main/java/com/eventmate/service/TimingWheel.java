@@ -0,0 +1,101 @@
+package com.eventmate.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck): level 0 has one slot per tick, each higher
+ * level one slot per full turn of the level below. Adding an entry is O(1); advancing costs one
+ * step per elapsed tick, plus moving each entry down at most once per level as its time nears.
+ * Not thread-safe.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private record Entry<T>(long dueTick, T item) {}
+
+    private final long tickMillis;
+    private final List<List<List<Entry<T>>>> levels = new ArrayList<>();
+    private final List<T> overdue = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long tickMillis, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || levelCount < 1 || levelCount > 10) {
+            throw new IllegalArgumentException("tick must be positive and levels between 1 and 10");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        for (int level = 0; level < levelCount; level++) {
+            List<List<Entry<T>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) slots.add(new ArrayList<>());
+            levels.add(slots);
+        }
+    }
+
+    /** How far ahead of the current time entries can be added. */
+    long spanMillis() {
+        return ((1L << (SLOT_BITS * levels.size())) - 1) * tickMillis;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Schedules {@code item} for the first tick at or after {@code dueMillis}; past times fire on the next advance. */
+    void add(long dueMillis, T item) {
+        long dueTick = Math.floorDiv(dueMillis + tickMillis - 1, tickMillis);
+        if (dueTick - currentTick > spanMillis() / tickMillis) {
+            throw new IllegalArgumentException("due time is beyond the wheel's span");
+        }
+        size++;
+        place(new Entry<>(dueTick, item));
+    }
+
+    /** Moves the wheel to {@code nowMillis}, handing every entry that came due to {@code onDue}, tick by tick. */
+    void advance(long nowMillis, Consumer<? super T> onDue) {
+        flushOverdue(onDue);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = 1; level < levels.size() && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+                List<Entry<T>> slot = levels.get(level).get(slotIndex(currentTick, level));
+                List<Entry<T>> cascading = new ArrayList<>(slot);
+                slot.clear();
+                cascading.forEach(this::place);
+            }
+            flushOverdue(onDue);
+            List<Entry<T>> slot = levels.get(0).get(slotIndex(currentTick, 0));
+            for (Entry<T> entry : slot) onDue.accept(entry.item());
+            size -= slot.size();
+            slot.clear();
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.dueTick() - currentTick;
+        if (delta <= 0) {
+            overdue.add(entry.item());
+            return;
+        }
+        int level = 0;
+        while (delta >= 1L << (SLOT_BITS * (level + 1))) level++;
+        levels.get(level).get(slotIndex(entry.dueTick(), level)).add(entry);
+    }
+
+    private void flushOverdue(Consumer<? super T> onDue) {
+        if (overdue.isEmpty()) return;
+        List<T> due = new ArrayList<>(overdue);
+        overdue.clear();
+        size -= due.size();
+        due.forEach(onDue);
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & MASK);
+    }
+}
@@ -0,0 +1,230 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventResponse;
+import com.eventmate.dto.ScheduleEntry;
+import com.eventmate.entity.Registration;
+import com.eventmate.exception.ConflictException;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Each active attendee's registrations (booked or waitlisted) as an interval tree, so overlap and
+ * "what's on in this window" checks don't go back to the database. A user's calendar is loaded on
+ * first use with one query and kept current from registration and event changes once they commit.
+ * Those changes are only seen by this instance, so a calendar is reloaded
+ * {@code eventmate.calendar.max-age} after it was loaded, however often it is read.
+ * <p>
+ * Loads run on the calling thread outside the cache's map lock, as in {@link EventCache}. A change
+ * that commits while a load is still in flight discards that load rather than patching it.
+ */
+@Component
+public class UserCalendarIndex {
+
+    public enum ConflictPolicy { WARN, BLOCK }
+
+    private final AsyncCache<Long, UserCalendar> calendars;
+    private final RegistrationRepository registrationRepository;
+    private final EventRepository eventRepository;
+    private final EventCache eventCache;
+    private final ConflictPolicy conflictPolicy;
+
+    public UserCalendarIndex(RegistrationRepository registrationRepository,
+                             EventRepository eventRepository,
+                             EventCache eventCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${eventmate.calendar.max-users:10000}") long maxUsers,
+                             @Value("${eventmate.calendar.max-age:5m}") Duration maxAge,
+                             @Value("${eventmate.calendar.conflicts:warn}") ConflictPolicy conflictPolicy) {
+        this.registrationRepository = registrationRepository;
+        this.eventRepository = eventRepository;
+        this.eventCache = eventCache;
+        this.conflictPolicy = conflictPolicy;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(maxAge)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars.synchronous(), "calendars");
+    }
+
+    /** The user's registrations for events overlapping {@code [from, to)}, in start order. */
+    public List<ScheduleEntry> schedule(Long userId, Instant from, Instant to) {
+        return calendar(userId).overlapping(from.toEpochMilli(), to.toEpochMilli());
+    }
+
+    /** Every registration the user holds, in start order. */
+    public List<ScheduleEntry> all(Long userId) {
+        return calendar(userId).all();
+    }
+
+    /** The user's other registrations overlapping the given event; empty if the event doesn't exist. */
+    public List<ScheduleEntry> conflicts(Long userId, Long eventId) {
+        Optional<EventResponse> event = eventCache.get(eventId, eventRepository::findResponseById);
+        if (event.isEmpty()) {
+            return List.of();
+        }
+        List<ScheduleEntry> overlapping = calendar(userId).overlapping(
+                event.get().startTime().toEpochMilli(), event.get().endTime().toEpochMilli());
+        overlapping.removeIf(entry -> entry.eventId().equals(eventId));
+        return overlapping;
+    }
+
+    /**
+     * Refuses a registration that overlaps one the user already holds when the policy is
+     * {@code block}. Two concurrent registrations by the same user can still both pass.
+     */
+    public void checkConflicts(Long userId, Long eventId) {
+        if (conflictPolicy != ConflictPolicy.BLOCK) {
+            return;
+        }
+        List<ScheduleEntry> conflicts = conflicts(userId, eventId);
+        if (!conflicts.isEmpty()) {
+            throw new ConflictException("Overlaps your registration for event " + conflicts.get(0).eventId());
+        }
+    }
+
+    public ConflictPolicy conflictPolicy() {
+        return conflictPolicy;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRegistrationChanged(RegistrationChangedEvent change) {
+        CompletableFuture<UserCalendar> future = calendars.getIfPresent(change.userId());
+        if (future == null) {
+            return;
+        }
+        UserCalendar calendar = loaded(future);
+        if (calendar == null) {
+            calendars.synchronous().invalidate(change.userId());
+            return;
+        }
+        switch (change.transition()) {
+            case CANCELLED, LEFT_WAITLIST -> calendar.remove(change.eventId());
+            case CONFIRMED, PROMOTED -> place(calendar, change.userId(), change.eventId(), Registration.Status.CONFIRMED);
+            case WAITLISTED -> place(calendar, change.userId(), change.eventId(), Registration.Status.WAITLISTED);
+        }
+    }
+
+    // Moves the event in every loaded calendar holding it; the new times are read once, not per user.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChangedEvent change) {
+        List<UserCalendar> holding = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<UserCalendar>> entry : calendars.asMap().entrySet()) {
+            UserCalendar calendar = loaded(entry.getValue());
+            if (calendar == null) {
+                calendars.asMap().remove(entry.getKey(), entry.getValue());
+            } else if (calendar.get(change.eventId()) != null) {
+                holding.add(calendar);
+            }
+        }
+        if (holding.isEmpty()) {
+            return;
+        }
+        Optional<EventResponse> updated = change.kind() == EventChangedEvent.Kind.DELETED
+                ? Optional.empty()
+                : eventRepository.findResponseById(change.eventId());
+        for (UserCalendar calendar : holding) {
+            ScheduleEntry held = calendar.get(change.eventId());
+            if (updated.isPresent() && held != null) {
+                calendar.put(entry(updated.get(), held.status()));
+            } else {
+                calendar.remove(change.eventId());
+            }
+        }
+    }
+
+    private void place(UserCalendar calendar, Long userId, Long eventId, Registration.Status status) {
+        ScheduleEntry held = calendar.get(eventId);
+        if (held != null) {
+            calendar.put(new ScheduleEntry(held.eventId(), held.title(), held.location(),
+                    held.startTime(), held.endTime(), status));
+            return;
+        }
+        Optional<EventResponse> event = eventCache.get(eventId, eventRepository::findResponseById);
+        if (event.isPresent()) {
+            calendar.put(entry(event.get(), status));
+        } else {
+            calendars.synchronous().invalidate(userId);
+        }
+    }
+
+    private UserCalendar calendar(Long userId) {
+        CompletableFuture<UserCalendar> pending = new CompletableFuture<>();
+        CompletableFuture<UserCalendar> cached = calendars.get(userId, (key, executor) -> pending);
+        if (cached == pending) {
+            try {
+                pending.complete(new UserCalendar(registrationRepository.findSchedule(userId)));
+            } catch (Throwable ex) {
+                // as in EventCache: an incomplete future would block every later request for the user
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        return cached.join();
+    }
+
+    private static UserCalendar loaded(CompletableFuture<UserCalendar> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private static ScheduleEntry entry(EventResponse event, Registration.Status status) {
+        return new ScheduleEntry(event.id(), event.title(), event.location(),
+                event.startTime(), event.endTime(), status);
+    }
+
+    private static final class UserCalendar {
+
+        private final IntervalTree<ScheduleEntry> tree = new IntervalTree<>();
+        private final Map<Long, ScheduleEntry> byEvent = new HashMap<>();
+
+        UserCalendar(List<ScheduleEntry> entries) {
+            entries.forEach(this::put);
+        }
+
+        synchronized ScheduleEntry get(Long eventId) {
+            return byEvent.get(eventId);
+        }
+
+        synchronized void put(ScheduleEntry entry) {
+            ScheduleEntry previous = byEvent.put(entry.eventId(), entry);
+            if (previous != null) {
+                tree.remove(previous.startTime().toEpochMilli(), previous.eventId());
+            }
+            tree.put(entry.startTime().toEpochMilli(), entry.endTime().toEpochMilli(), entry.eventId(), entry);
+        }
+
+        synchronized void remove(Long eventId) {
+            ScheduleEntry previous = byEvent.remove(eventId);
+            if (previous != null) {
+                tree.remove(previous.startTime().toEpochMilli(), eventId);
+            }
+        }
+
+        synchronized List<ScheduleEntry> overlapping(long from, long to) {
+            return tree.overlapping(from, to);
+        }
+
+        synchronized List<ScheduleEntry> all() {
+            List<ScheduleEntry> entries = new ArrayList<>(tree.size());
+            tree.forEach(entries::add);
+            return entries;
+        }
+    }
+}
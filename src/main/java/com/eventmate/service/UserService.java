@@ -2,30 +2,57 @@ package com.eventmate.service;
 
 import com.eventmate.dto.RegisterRequest;
 import com.eventmate.entity.User;
+import com.eventmate.exception.ConflictException;
 import com.eventmate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.eventmate.security.PasswordHasher;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public User register(RegisterRequest req) {
+    // Hashes on the BCrypt pool like login does, without holding the request thread; a
+    // saturated pool rejects the call up front with RejectedExecutionException (429).
+    public CompletableFuture<User> register(RegisterRequest req) {
         if (userRepository.existsByEmail(req.email()))
-            throw new RuntimeException("Email already registered");
+            throw new ConflictException("Email already registered");
+        User.Role role = User.Role.valueOf(req.role().toUpperCase());
 
-        User user = User.builder()
+        return passwordHasher.encode(req.password()).thenApply(hash -> userRepository.save(User.builder()
                 .name(req.name())
                 .email(req.email())
-                .password(passwordEncoder.encode(req.password()))
-                .role(User.Role.valueOf(req.role().toUpperCase()))
-                .build();
+                .password(hash)
+                .role(role)
+                .build()));
+    }
+
+    /**
+     * Locks the organizer's row until the surrounding transaction ends, so two of their writes
+     * cannot both pass the overlap check before either inserts. Returns when their last series
+     * occurrence ends, or null if they have no series.
+     */
+    public Instant lockSchedule(Long organizerId) {
+        return userRepository.findForUpdate(organizerId).map(User::getSeriesEnd).orElse(null);
+    }
+
+    /**
+     * Like {@link #lockSchedule}, for writes that the events_no_overlap constraint keeps apart
+     * from each other: they only wait for a series being created, not for one another.
+     */
+    public Instant lockScheduleShared(Long organizerId) {
+        return userRepository.findForShare(organizerId).map(User::getSeriesEnd).orElse(null);
+    }
 
-        return userRepository.save(user);
+    // Called under lockSchedule by the transaction creating the series.
+    public void recordSeriesEnd(Long organizerId, Instant end) {
+        userRepository.extendSeriesEnd(organizerId, end);
     }
 
     public User getByEmail(String email) {
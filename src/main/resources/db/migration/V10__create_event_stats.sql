@@ -0,0 +1,31 @@
+-- Dashboard counters, maintained incrementally by EventStatsService so reads never count registrations.
+CREATE TABLE IF NOT EXISTS event_stats (
+    event_id BIGINT PRIMARY KEY,
+    waitlisted INTEGER NOT NULL DEFAULT 0,
+    registrations BIGINT NOT NULL DEFAULT 0,
+    cancellations BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_event_stats_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS event_stats_hourly (
+    event_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    registrations INTEGER NOT NULL DEFAULT 0,
+    cancellations INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, bucket_start),
+    CONSTRAINT fk_event_stats_hourly_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE
+);
+
+-- Seed from existing registrations. A re-registration overwrote created_at, so history is approximate.
+INSERT INTO event_stats (event_id, waitlisted, registrations, cancellations)
+SELECT event_id,
+       COUNT(*) FILTER (WHERE status = 'WAITLISTED'),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE status = 'CANCELLED')
+FROM registrations
+GROUP BY event_id;
+
+INSERT INTO event_stats_hourly (event_id, bucket_start, registrations, cancellations)
+SELECT event_id, date_trunc('hour', created_at), COUNT(*), 0
+FROM registrations
+GROUP BY event_id, date_trunc('hour', created_at);
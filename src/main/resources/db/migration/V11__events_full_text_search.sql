@@ -0,0 +1,10 @@
+-- Full-text search over title (weight A), location (B) and description (C). The column is
+-- generated, so every write keeps it current; adding it rewrites the table once.
+ALTER TABLE events
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(location, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_events_search ON events USING GIN (search_vector);
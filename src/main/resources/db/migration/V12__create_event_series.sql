@@ -0,0 +1,36 @@
+-- Recurring events are one row holding the first occurrence and an RRULE. Occurrences are expanded
+-- on read; an events row is only written for an occurrence once someone registers for it.
+CREATE TABLE IF NOT EXISTS event_series (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    location VARCHAR(255),
+    capacity INTEGER NOT NULL,
+    first_start TIMESTAMP NOT NULL,
+    duration_seconds BIGINT NOT NULL,
+    time_zone VARCHAR(64) NOT NULL,
+    recurrence VARCHAR(255) NOT NULL,
+    occurrence_count INTEGER NOT NULL,
+    last_end TIMESTAMP NOT NULL,
+    created_by BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_event_series_creator FOREIGN KEY (created_by) REFERENCES users (id) ON DELETE CASCADE
+);
+-- listing and overlap checks only look at series that have not finished yet
+CREATE INDEX idx_event_series_last_end ON event_series (last_end, first_start);
+CREATE INDEX idx_event_series_organizer ON event_series (created_by, last_end);
+
+CREATE TABLE IF NOT EXISTS event_series_exdates (
+    series_id BIGINT NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    PRIMARY KEY (series_id, start_time),
+    CONSTRAINT fk_event_series_exdates_series FOREIGN KEY (series_id) REFERENCES event_series (id) ON DELETE CASCADE
+);
+
+-- A materialized occurrence keeps its series id; the unique key makes concurrent first
+-- registrations for the same occurrence converge on one row.
+ALTER TABLE events ADD COLUMN series_id BIGINT;
+ALTER TABLE events ADD CONSTRAINT fk_events_series
+    FOREIGN KEY (series_id) REFERENCES event_series (id) ON DELETE SET NULL;
+ALTER TABLE events ADD CONSTRAINT uq_events_series_start UNIQUE (series_id, start_time);
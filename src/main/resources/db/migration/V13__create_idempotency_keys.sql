@@ -0,0 +1,16 @@
+-- Responses to writes sent with an Idempotency-Key header, replayed when the client retries.
+-- A row with no status_code is a claim held by the request still running; its expires_at is a
+-- short lease, so a claim left behind by a crashed instance frees itself.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash BYTEA,
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    location VARCHAR(255),
+    body BYTEA,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,10 @@
+-- Progress markers of background jobs that must not repeat work after a restart. For reminders,
+-- high_water is the due time up to which reminders have been written to the notification outbox.
+CREATE TABLE IF NOT EXISTS scheduler_state (
+    name VARCHAR(64) PRIMARY KEY,
+    high_water TIMESTAMP NOT NULL
+);
+
+-- Reminders start from deployment time, not from the past.
+INSERT INTO scheduler_state (name, high_water) VALUES ('event-reminders', CURRENT_TIMESTAMP)
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,38 @@
+-- Events leave the live tables once they have ended (EventArchiveService) or are deleted, and are
+-- kept here with their registrations. Both tables are range-partitioned by the event's start;
+-- the application creates a yearly partition before the first row for that year arrives, and an
+-- old year can be detached or dropped as a whole.
+CREATE TABLE events_archive (
+    id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    location VARCHAR(255),
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    capacity INTEGER NOT NULL,
+    booked INTEGER NOT NULL,
+    created_by BIGINT NOT NULL,
+    created_at TIMESTAMP,
+    series_id BIGINT,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    -- set when the organizer deleted the event rather than it having ended
+    deleted_at TIMESTAMP,
+    PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+-- GET /api/events/{id} falls back to the archive knowing only the id
+CREATE INDEX idx_events_archive_id ON events_archive (id);
+CREATE INDEX idx_events_archive_createdby ON events_archive (created_by, start_time);
+
+CREATE TABLE registrations_archive (
+    id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    cancelled_at TIMESTAMP,
+    event_start TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, event_start)
+) PARTITION BY RANGE (event_start);
+CREATE INDEX idx_registrations_archive_event ON registrations_archive (event_id);
+CREATE INDEX idx_registrations_archive_user ON registrations_archive (user_id);
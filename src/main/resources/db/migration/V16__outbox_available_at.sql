@@ -0,0 +1,3 @@
+-- A dispatcher claims rows by pushing available_at past a lease, so it can send outside any
+-- transaction; failed rows are pushed out by an exponential backoff. NULL means available now.
+ALTER TABLE notification_outbox ADD COLUMN available_at TIMESTAMP;
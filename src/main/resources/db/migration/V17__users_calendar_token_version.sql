@@ -0,0 +1,2 @@
+-- Part of every calendar feed token; bumping it revokes the user's current feed URL.
+ALTER TABLE users ADD COLUMN calendar_token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Registration changes not yet added to event_stats / event_stats_hourly. Written in the same
+-- transaction as the change and drained by EventStatsService, so a crash between flushes loses
+-- nothing. No FK to events: rows of a deleted event are simply dropped by the next flush.
+CREATE TABLE IF NOT EXISTS event_stats_delta (
+    id BIGSERIAL PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    waitlisted INTEGER NOT NULL,
+    registrations INTEGER NOT NULL,
+    cancellations INTEGER NOT NULL
+);
@@ -0,0 +1,5 @@
+-- When the organizer's last series occurrence ends, null without series. Event writes starting
+-- after it have no series occurrences to check against.
+ALTER TABLE users ADD COLUMN series_end TIMESTAMP;
+UPDATE users u SET series_end = (SELECT max(s.last_end) FROM event_series s WHERE s.created_by = u.id)
+WHERE u.id IN (SELECT created_by FROM event_series);
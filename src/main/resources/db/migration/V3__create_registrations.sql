@@ -0,0 +1,18 @@
+ALTER TABLE events
+ADD COLUMN IF NOT EXISTS booked INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE events
+ADD CONSTRAINT chk_events_booked CHECK (booked >= 0 AND booked <= capacity);
+
+CREATE TABLE IF NOT EXISTS registrations (
+    id BIGSERIAL PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    cancelled_at TIMESTAMP,
+    CONSTRAINT fk_registration_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE,
+    CONSTRAINT fk_registration_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT uq_registration_event_user UNIQUE (event_id, user_id)
+);
+CREATE INDEX idx_registrations_user ON registrations(user_id);
@@ -0,0 +1,7 @@
+-- Keyset listing seeks on (start_time, id), optionally behind an equality filter.
+CREATE INDEX IF NOT EXISTS idx_events_start_id ON events(start_time, id);
+CREATE INDEX IF NOT EXISTS idx_events_createdby_start_id ON events(created_by, start_time, id);
+CREATE INDEX IF NOT EXISTS idx_events_location_start_id ON events(location, start_time, id);
+
+-- Covered by the leading column of idx_events_createdby_start_id.
+DROP INDEX IF EXISTS idx_events_createdby;
@@ -0,0 +1,13 @@
+-- Written in the same transaction as the change it announces; drained by NotificationDispatcher.
+-- No FK to events: cancellation rows must outlive the deleted event.
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    user_id BIGINT,
+    type VARCHAR(40) NOT NULL,
+    event_title VARCHAR(255),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+CREATE INDEX idx_outbox_pending ON notification_outbox(id) WHERE processed_at IS NULL;
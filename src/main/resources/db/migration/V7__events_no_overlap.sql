@@ -0,0 +1,9 @@
+-- One organizer cannot run two events at the same time. Enforced by the database so that
+-- concurrent creates cannot both pass an application-side check.
+-- start_time/end_time are TIMESTAMP without time zone, hence tsrange; '[)' bounds match
+-- the (start < other.end and end > other.start) rule used by EventRepository.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE events
+ADD CONSTRAINT events_no_overlap
+EXCLUDE USING gist (created_by WITH =, tsrange(start_time, end_time) WITH &&);
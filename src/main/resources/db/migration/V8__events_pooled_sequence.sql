@@ -0,0 +1,3 @@
+-- Event ids are now allocated by Hibernate's pooled optimizer in blocks of 50, which lets
+-- inserts go out as JDBC batches (IDENTITY forces one round trip per row).
+ALTER SEQUENCE events_id_seq INCREMENT BY 50;
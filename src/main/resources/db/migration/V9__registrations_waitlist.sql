@@ -0,0 +1,3 @@
+-- Waitlist heads are claimed in arrival order per event; keep that lookup off the confirmed rows.
+CREATE INDEX idx_registrations_waitlist ON registrations (event_id, created_at, id)
+    WHERE status = 'WAITLISTED';
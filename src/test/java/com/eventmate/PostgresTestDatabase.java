@@ -0,0 +1,31 @@
+package com.eventmate;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * Datasource for the tests tagged {@code postgres}, which cover what H2 cannot: the Flyway
+ * migrations, exclusion constraints and row locking. {@code mvn verify -Ppostgres} sets
+ * EVENTMATE_IT_DB_URL to a throwaway Testcontainers Postgres; a jdbc:postgresql URL (with
+ * EVENTMATE_IT_DB_USER / EVENTMATE_IT_DB_PASSWORD) runs them against an existing server.
+ */
+public final class PostgresTestDatabase {
+
+    public static final String URL_VARIABLE = "EVENTMATE_IT_DB_URL";
+
+    private PostgresTestDatabase() {}
+
+    // Also overrides the H2 settings of the "test" profile, so H2 tests can be rerun on Postgres.
+    public static void register(DynamicPropertyRegistry registry) {
+        String url = System.getenv(URL_VARIABLE);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.driver-class-name", () -> url.startsWith("jdbc:tc:")
+                ? "org.testcontainers.jdbc.ContainerDatabaseDriver" : "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("EVENTMATE_IT_DB_USER", "eventmate_user"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("EVENTMATE_IT_DB_PASSWORD", "eventmate_pass"));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("eventmate.events.rely-on-overlap-constraint", () -> "true");
+        registry.add("eventmate.search.full-text", () -> "true");
+        registry.add("eventmate.archive.partitions", () -> "true");
+    }
+}
@@ -0,0 +1,108 @@
+package com.eventmate.config;
+
+import com.eventmate.dto.AuthRequest;
+import com.eventmate.dto.AuthResponse;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.service.AuthService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DbConcurrencyLimiterTest {
+
+    @Test
+    void limit_ShouldRejectCaller_WhenNoPermitFreesUpInTime() throws Throwable {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 50);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProceedingJoinPoint slow = mock(ProceedingJoinPoint.class);
+        when(slow.proceed()).thenAnswer(inv -> {
+            entered.countDown();
+            release.await();
+            return "slow";
+        });
+        ProceedingJoinPoint fast = mock(ProceedingJoinPoint.class);
+        when(fast.proceed()).thenReturn("fast");
+
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.limit(slow);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        });
+        entered.await();
+
+        assertThrows(RejectedExecutionException.class, () -> limiter.limit(fast));
+        release.countDown();
+        assertEquals("slow", holder.join());
+        assertEquals("fast", limiter.limit(fast));
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void limit_ShouldLetNestedCallsReuseTheCallersPermit() throws Throwable {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 10);
+        ProceedingJoinPoint inner = mock(ProceedingJoinPoint.class);
+        when(inner.proceed()).thenReturn("inner");
+        ProceedingJoinPoint outer = mock(ProceedingJoinPoint.class);
+        when(outer.proceed()).thenAnswer(inv -> limiter.limit(inner));
+
+        assertEquals("inner", limiter.limit(outer));
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void limit_ShouldHoldPermit_UntilReturnedFutureCompletes() throws Throwable {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 10);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        ProceedingJoinPoint async = mock(ProceedingJoinPoint.class);
+        when(async.proceed()).thenReturn(pending);
+
+        assertSame(pending, limiter.limit(async));
+        assertEquals(0, limiter.availablePermits());
+        pending.completeExceptionally(new IllegalStateException("hashing failed"));
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void limit_ShouldCoverTheLoginLookup_ButNotTheHashing() {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 10);
+        UserRepository users = mock(UserRepository.class);
+        when(users.findByEmail("ash@example.com")).thenAnswer(inv -> {
+            assertEquals(0, limiter.availablePermits());
+            return Optional.empty();
+        });
+        AuthService auth = mock(AuthService.class);
+        CompletableFuture<AuthResponse> hashing = new CompletableFuture<>();
+        when(auth.login(any())).thenReturn(hashing);
+
+        assertEquals(Optional.empty(), limited(users, limiter).findByEmail("ash@example.com"));
+        assertSame(hashing, limited(auth, limiter).login(new AuthRequest("ash@example.com", "secret")));
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void limit_ShouldReleasePermit_WhenCallThrows() throws Throwable {
+        DbConcurrencyLimiter limiter = new DbConcurrencyLimiter(1, 10);
+        ProceedingJoinPoint failing = mock(ProceedingJoinPoint.class);
+        when(failing.proceed()).thenThrow(new IllegalStateException("Event is full"));
+
+        assertThrows(IllegalStateException.class, () -> limiter.limit(failing));
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    private static <T> T limited(T target, DbConcurrencyLimiter limiter) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(limiter);
+        return factory.getProxy();
+    }
+}
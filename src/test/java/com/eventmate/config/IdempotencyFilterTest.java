@@ -0,0 +1,183 @@
+package com.eventmate.config;
+
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.IdempotencyRecordRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.eventmate.service.IdempotencyService;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+    private static final String EVENT_JSON = """
+        {"title":"Retry me","startTime":"2031-05-01T10:00:00Z","endTime":"2031-05-01T11:00:00Z","capacity":5}
+        """;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private IdempotencyRecordRepository idempotencyRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private IdempotencyService idempotencyService;
+
+    private String organizer;
+    private Long organizerId;
+
+    @BeforeEach
+    void login() {
+        User org = userRepository.save(User.builder()
+                .name("Org").email("idem-org@example.com").password("x").role(User.Role.ORGANIZER).build());
+        organizer = "Bearer " + jwtService.generateToken(org);
+        organizerId = org.getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        idempotencyRepository.deleteAll();
+        outboxRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void retry_ShouldReplayFirstResponse_WithoutCreatingAgain() throws Exception {
+        String key = UUID.randomUUID().toString();
+        MockHttpServletResponse first = mockMvc.perform(createEvent(key, EVENT_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse();
+
+        mockMvc.perform(createEvent(key, EVENT_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(header().string(HttpHeaders.LOCATION, first.getHeader(HttpHeaders.LOCATION)))
+                .andExpect(content().json(first.getContentAsString(), true));
+        assertEquals(1, eventRepository.count());
+
+        // the same key on another instance is answered from the table
+        IdempotencyService otherInstance = new IdempotencyService(idempotencyRepository, transactionManager,
+                new SimpleMeterRegistry(), Duration.ofHours(24), Duration.ofMinutes(5), Duration.ofSeconds(5), 100);
+        IdempotencyService.Claim claim = otherInstance.claim(organizerId, key);
+        assertEquals(IdempotencyService.Outcome.REPLAY, claim.outcome());
+        assertEquals(201, claim.response().status());
+
+        mockMvc.perform(createEvent(key, EVENT_JSON.replace("Retry me", "Something else")))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(createEvent("badékey", EVENT_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void registrationRetries_ShouldBeReplayed() throws Exception {
+        String event = JsonPath.read(mockMvc.perform(post("/api/events").header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON).content(EVENT_JSON))
+                .andReturn().getResponse().getContentAsString(), "$.id").toString();
+        String attendee = "Bearer " + jwtService.generateToken(userRepository.save(User.builder()
+                .name("A").email("idem-a@example.com").password("x").role(User.Role.ATTENDEE).build()));
+
+        String register = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/events/" + event + "/registrations")
+                            .header(HttpHeaders.AUTHORIZATION, attendee).header(IdempotencyFilter.HEADER, register))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.status").value("CONFIRMED"));
+        }
+        String cancel = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(delete("/api/events/" + event + "/registrations")
+                            .header(HttpHeaders.AUTHORIZATION, attendee).header(IdempotencyFilter.HEADER, cancel))
+                    .andExpect(status().isNoContent());
+        }
+        // without a key a repeated cancel is a conflict as before
+        mockMvc.perform(delete("/api/events/" + event + "/registrations").header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void concurrentDuplicates_ShouldRunOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                responses.add(pool.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(createEvent(key, EVENT_JSON)).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+            String body = null;
+            for (Future<MockHttpServletResponse> response : responses) {
+                assertEquals(201, response.get().getStatus());
+                if (body == null) body = response.get().getContentAsString();
+                assertEquals(body, response.get().getContentAsString());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, eventRepository.count());
+    }
+
+    @Test
+    void duplicate_ShouldGet409WithRetryAfter_WhenFirstRequestOutlastsTheWait() throws Exception {
+        String key = UUID.randomUUID().toString();
+        IdempotencyService.Claim first = idempotencyService.claim(organizerId, key);
+        assertEquals(IdempotencyService.Outcome.EXECUTE, first.outcome());
+        try {
+            long began = System.nanoTime();
+            mockMvc.perform(createEvent(key, EVENT_JSON))
+                    .andExpect(status().isConflict())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+            // bounded by max-wait, not by the 5 minute lease
+            assertTrue(Duration.ofNanos(System.nanoTime() - began).compareTo(Duration.ofSeconds(30)) < 0);
+        } finally {
+            idempotencyService.release(first);
+        }
+        mockMvc.perform(createEvent(key, EVENT_JSON)).andExpect(status().isCreated());
+    }
+
+    private MockHttpServletRequestBuilder createEvent(String key, String json) {
+        return post("/api/events").header(HttpHeaders.AUTHORIZATION, organizer)
+                .header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON).content(json);
+    }
+}
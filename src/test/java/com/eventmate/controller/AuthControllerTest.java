@@ -0,0 +1,93 @@
+package com.eventmate.controller;
+
+import com.eventmate.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    private static final String REGISTER = """
+            {"name":"Ann","email":"ann@example.com","password":"secret123","role":"attendee"}""";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void login_ShouldAnswer401Problem_WhenPasswordIsWrong() throws Exception {
+        register();
+
+        MvcResult pending = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"ann@example.com","password":"wrong-password"}"""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("about:blank"))
+                .andExpect(jsonPath("$.title").value("Unauthorized"))
+                .andExpect(jsonPath("$.status").value(401))
+                .andExpect(jsonPath("$.detail").value("Invalid credentials"))
+                .andExpect(jsonPath("$.instance").value("/api/auth/login"));
+    }
+
+    @Test
+    void logout_ShouldRevokeTokensIssuedBeforeIt() throws Exception {
+        register();
+        MvcResult pending = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"ann@example.com","password":"secret123"}"""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String bearer = "Bearer " + JsonPath.read(mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.token");
+
+        mockMvc.perform(get("/api/calendar").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/calendar").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void register_ShouldAnswer409Problem_WhenEmailIsTaken() throws Exception {
+        register();
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(REGISTER))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Email already registered"));
+    }
+
+    private void register() throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(REGISTER))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,171 @@
+package com.eventmate.controller;
+
+import com.eventmate.entity.Event;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CalendarControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+
+    private String organizer;
+    private String attendee;
+    private Long organizerId;
+    private Long otherOrganizerId;
+
+    @BeforeEach
+    void login() {
+        User org = userRepository.save(User.builder()
+                .name("Org").email("calendar-org@example.com").password("x").role(User.Role.ORGANIZER).build());
+        organizer = "Bearer " + jwtService.generateToken(org);
+        organizerId = org.getId();
+        // one organizer's events can't overlap
+        otherOrganizerId = userRepository.save(User.builder()
+                .name("Org 2").email("calendar-org2@example.com").password("x").role(User.Role.ORGANIZER).build()).getId();
+        attendee = "Bearer " + jwtService.generateToken(userRepository.save(User.builder()
+                .name("A").email("calendar-a@example.com").password("x").role(User.Role.ATTENDEE).build()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void registrations_ShouldReportOverlaps_AndKeepScheduleInSync() throws Exception {
+        Long keynote = event("Keynote, day 1", "2031-03-10T10:00:00Z", "2031-03-10T12:00:00Z", organizerId);
+        Long workshop = event("Workshop", "2031-03-10T11:00:00Z", "2031-03-10T13:00:00Z", otherOrganizerId);
+        Long dinner = event("Dinner", "2031-03-10T18:00:00Z", "2031-03-10T20:00:00Z", organizerId);
+
+        mockMvc.perform(get("/api/calendar").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-03-10T00:00:00Z"))
+                .andExpect(jsonPath("$", empty()));
+        register(keynote).andExpect(jsonPath("$.conflictsWith", empty()));
+        register(workshop).andExpect(jsonPath("$.conflictsWith[0]").value(keynote));
+        register(dinner).andExpect(jsonPath("$.conflictsWith", empty()));
+
+        mockMvc.perform(get("/api/calendar").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-03-10T11:30:00Z").param("to", "2031-03-10T12:30:00Z"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].eventId").value(keynote))
+                .andExpect(jsonPath("$[1].eventId").value(workshop));
+
+        // deleting or moving an event changes it in the loaded calendar
+        mockMvc.perform(delete("/api/events/" + workshop).header(HttpHeaders.AUTHORIZATION,
+                        "Bearer " + jwtService.generateToken(userRepository.findById(otherOrganizerId).orElseThrow())))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(put("/api/events/" + dinner).header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"title":"Dinner","startTime":"2031-03-10T12:00:00Z",
+                             "endTime":"2031-03-10T14:00:00Z","capacity":10}
+                            """))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/calendar").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-03-10T11:30:00Z").param("to", "2031-03-10T12:30:00Z"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].eventId").value(keynote))
+                .andExpect(jsonPath("$[1].eventId").value(dinner))
+                .andExpect(jsonPath("$[1].status").value("CONFIRMED"));
+
+        mockMvc.perform(delete("/api/events/" + keynote + "/registrations").header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/calendar").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-03-10T11:30:00Z").param("to", "2031-03-10T12:30:00Z"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].eventId").value(dinner));
+    }
+
+    @Test
+    void feed_ShouldStreamIcs_ForHolderOfFeedToken() throws Exception {
+        register(event("Keynote, day 1", "2031-03-10T10:00:00Z", "2031-03-10T12:00:00Z", organizerId));
+
+        String url = JsonPath.read(mockMvc.perform(get("/api/calendar/feed").header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.url");
+        String path = url.substring(url.indexOf("/api/calendar/"));
+
+        mockMvc.perform(get(path.substring(0, path.indexOf('?'))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(path.replace("/api/calendar/", "/api/calendar/9")))
+                .andExpect(status().isForbidden());
+
+        MvcResult feed = mockMvc.perform(get(path)).andExpect(request().asyncStarted()).andReturn();
+        String ics = mockMvc.perform(asyncDispatch(feed))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/calendar;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        List<String> lines = List.of(ics.split("\r\n"));
+        assertTrue(lines.contains("SUMMARY:Keynote\\, day 1"));
+        assertTrue(lines.contains("DTSTART:20310310T100000Z"));
+        assertTrue(lines.contains("STATUS:CONFIRMED"));
+    }
+
+    @Test
+    void feedReset_ShouldRevokeTheOldUrl() throws Exception {
+        String oldPath = feedPath(mockMvc.perform(get("/api/calendar/feed").header(HttpHeaders.AUTHORIZATION, attendee)));
+        String newPath = feedPath(mockMvc.perform(post("/api/calendar/feed/reset").header(HttpHeaders.AUTHORIZATION, attendee)));
+
+        assertNotEquals(oldPath, newPath);
+        mockMvc.perform(get(oldPath)).andExpect(status().isForbidden());
+        mockMvc.perform(get(newPath)).andExpect(request().asyncStarted());
+    }
+
+    private static String feedPath(ResultActions response) throws Exception {
+        String url = JsonPath.read(response.andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.url");
+        return url.substring(url.indexOf("/api/calendar/"));
+    }
+
+    private Long event(String title, String start, String end, Long createdBy) {
+        return eventRepository.save(Event.builder()
+                .title(title).location("Hall 1").capacity(10)
+                .startTime(Instant.parse(start)).endTime(Instant.parse(end))
+                .createdBy(createdBy).createdAt(Instant.now())
+                .build()).getId();
+    }
+
+    private ResultActions register(Long eventId) throws Exception {
+        return mockMvc.perform(post("/api/events/" + eventId + "/registrations").header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isCreated());
+    }
+}
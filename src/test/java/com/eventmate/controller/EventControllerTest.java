@@ -0,0 +1,286 @@
+package com.eventmate.controller;
+
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.EventStatsDeltaRepository;
+import com.eventmate.repository.EventStatsHourlyRepository;
+import com.eventmate.repository.EventStatsRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.eventmate.service.EventStatsService;
+import com.eventmate.service.RegistrationService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventControllerTest {
+
+    private static final String EVENT_JSON = """
+        {"title":"%s","description":"desc","location":"Pune",
+         "startTime":"2030-06-01T10:00:00Z","endTime":"2030-06-01T12:00:00Z","capacity":%d}
+        """;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private RegistrationService registrationService;
+    @Autowired private EventStatsService eventStatsService;
+    @Autowired private EventStatsRepository statsRepository;
+    @Autowired private EventStatsHourlyRepository hourlyRepository;
+    @Autowired private EventStatsDeltaRepository deltaRepository;
+
+    private String bearer;
+
+    @BeforeEach
+    void login() {
+        User organizer = userRepository.save(User.builder()
+                .name("Org").email("org@example.com").password("x").role(User.Role.ORGANIZER).build());
+        bearer = "Bearer " + jwtService.generateToken(organizer);
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAll();
+        deltaRepository.deleteAll();
+        hourlyRepository.deleteAll();
+        statsRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getEvent_ShouldHonourETag_AndRefreshAfterUpdate() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Meetup", 10)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String location = created.getResponse().getHeader(HttpHeaders.LOCATION);
+
+        String etag = mockMvc.perform(get(location).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Meetup"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get(location).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put(location)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Meetup v2", 20)))
+                .andExpect(status().isOk());
+
+        String newEtag = mockMvc.perform(get(location).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Meetup v2"))
+                .andExpect(jsonPath("$.capacity").value(20))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void getEvent_ShouldReturn404_AfterDelete() throws Exception {
+        String location = mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Gone soon", 10)))
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        mockMvc.perform(get(location).header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+
+        mockMvc.perform(delete(location).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(location).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void importEvents_ShouldReportPerItemResults() throws Exception {
+        String body = "[" + EVENT_JSON.formatted("Talk 1", 10) + ","
+                + EVENT_JSON.formatted("Talk 2 (same slot)", 10) + ","
+                + EVENT_JSON.formatted("Talk 3", 0).replace("2030-06-01T1", "2030-06-02T1") + "]";
+
+        mockMvc.perform(post("/api/events/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[1].error").value("Event time overlaps with an existing event for this organizer"))
+                .andExpect(jsonPath("$.items[2].error").value("capacity: must be greater than or equal to 1"));
+    }
+
+    @Test
+    void importEvents_ShouldRejectNonArrayBody() throws Exception {
+        mockMvc.perform(post("/api/events/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Lonely", 10)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportEvents_ShouldStreamCsvAndNdjson() throws Exception {
+        mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Say \\\"hi\\\", all", 10)))
+                .andExpect(status().isCreated());
+
+        MvcResult csv = mockMvc.perform(get("/api/events/export").param("format", "csv")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events.csv\""))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,title,description,location"));
+        assertTrue(lines[1].contains(",\"Say \"\"hi\"\", all\",desc,Pune,2030-06-01T10:00:00Z,"));
+
+        MvcResult ndjson = mockMvc.perform(get("/api/events/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andReturn();
+        String json = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(json.endsWith("}\n"));
+        assertTrue(json.contains("\"title\":\"Say \\\"hi\\\", all\""));
+    }
+
+    @Test
+    void exportEvents_ShouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/events/export").param("format", "xml")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getDashboard_ShouldReportSeatsWaitlistAndHourlyActivity() throws Exception {
+        String location = mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Workshop", 2)))
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        Long eventId = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+        for (long user = 101; user <= 104; user++) {
+            registrationService.register(user, eventId);
+        }
+        registrationService.cancel(101L, eventId);   // 103 is promoted
+        // recorded with each change rather than held in memory until the flush
+        assertEquals(6, deltaRepository.findAll().stream().filter(d -> d.getEventId().equals(eventId)).count());
+        eventStatsService.flush();
+        assertEquals(0, deltaRepository.count());
+
+        String dashboard = mockMvc.perform(get(location + "/dashboard").param("hours", "3")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(2))
+                .andExpect(jsonPath("$.booked").value(2))
+                .andExpect(jsonPath("$.remaining").value(0))
+                .andExpect(jsonPath("$.waitlisted").value(1))
+                .andExpect(jsonPath("$.registrations").value(4))
+                .andExpect(jsonPath("$.cancellations").value(1))
+                .andExpect(jsonPath("$.hourly.length()").value(3))
+                .andReturn().getResponse().getContentAsString();
+        // summed, so the test still holds if it straddles an hour boundary
+        List<Integer> registrations = JsonPath.read(dashboard, "$.hourly[*].registrations");
+        List<Integer> cancellations = JsonPath.read(dashboard, "$.hourly[*].cancellations");
+        assertEquals(4, registrations.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(1, cancellations.stream().mapToInt(Integer::intValue).sum());
+
+        User other = userRepository.save(User.builder()
+                .name("Other").email("other@example.com").password("x").role(User.Role.ORGANIZER).build());
+        mockMvc.perform(get(location + "/dashboard")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(other)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void searchEvents_ShouldRankTitleMatchesFirstAndPageWithCursor() throws Exception {
+        String body = "[" + EVENT_JSON.formatted("Java meetup", 10) + ","
+                + EVENT_JSON.formatted("Kotlin workshop", 10).replace("\"desc\"", "\"Hands-on coroutines, with a Java interop session\"")
+                        .replace("10:00:00Z", "13:00:00Z").replace("12:00:00Z", "15:00:00Z") + ","
+                + EVENT_JSON.formatted("Rust night", 10).replace("10:00:00Z", "16:00:00Z").replace("12:00:00Z", "18:00:00Z") + "]";
+        mockMvc.perform(post("/api/events/bulk").header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(jsonPath("$.created").value(3));
+
+        String cursor = mockMvc.perform(get("/api/events/search").param("q", "java").param("limit", "1")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].event.title").value("Java meetup"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        cursor = JsonPath.read(cursor, "$.nextCursor");
+
+        mockMvc.perform(get("/api/events/search").param("q", "java").param("limit", "1").param("cursor", cursor)
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].event.title").value("Kotlin workshop"))
+                .andExpect(jsonPath("$.items[0].snippet").value("Hands-on coroutines, with a <mark>Java</mark> interop session"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        mockMvc.perform(get("/api/events/search").param("q", " ").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchEvents_ShouldEscapeEventTextInSnippets() throws Exception {
+        mockMvc.perform(post("/api/events").header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON.formatted("Java night", 10)
+                                .replace("\"desc\"", "\"<script>alert('java')</script> & more\"")))
+                .andExpect(status().isCreated());
+
+        String snippet = JsonPath.read(mockMvc.perform(get("/api/events/search").param("q", "java")
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.items[0].snippet");
+
+        // Postgres' ts_headline drops tags itself; the scan fallback on H2 keeps them, escaped
+        assertFalse(snippet.replace("<mark>", "").replace("</mark>", "").contains("<"), snippet);
+        assertTrue(snippet.endsWith("&amp; more"), snippet);
+    }
+
+    @Test
+    void getEvent_ShouldRequireToken() throws Exception {
+        mockMvc.perform(get("/api/events/1")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,63 @@
+package com.eventmate.controller;
+
+import com.eventmate.dto.EventResponse;
+import com.eventmate.entity.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of a single event, using an ObjectMapper
+ * configured the way Spring Boot configures the one behind the REST controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventResponseBenchmark {
+
+    private Event event;
+    private EventResponse response;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setup() {
+        Instant start = Instant.parse("2030-06-01T10:00:00Z");
+        event = Event.builder()
+                .id(1234L).title("Spring meetup").description("Talks, pizza and a panel on observability")
+                .location("Pune").startTime(start).endTime(start.plusSeconds(7200))
+                .capacity(150).createdBy(42L).createdAt(Instant.parse("2030-01-01T00:00:00Z")).version(3L)
+                .build();
+        response = EventController.toResponse(event);
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(EventResponse.class);
+    }
+
+    @Benchmark
+    public EventResponse toResponse() {
+        return EventController.toResponse(event);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] toResponseAndSerialize() throws Exception {
+        return writer.writeValueAsBytes(EventController.toResponse(event));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventResponseBenchmark.class.getSimpleName()).build()).run();
+    }
+}
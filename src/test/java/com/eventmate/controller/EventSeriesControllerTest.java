@@ -0,0 +1,177 @@
+package com.eventmate.controller;
+
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.EventSeriesRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventSeriesControllerTest {
+
+    // Tuesdays 19:00-21:00 Berlin time for a year; 2031-01-07 is a Tuesday.
+    private static final String WEEKLY_JSON = """
+        {"title":"Java meetup","location":"Berlin","startTime":"2031-01-07T18:00:00Z",
+         "endTime":"2031-01-07T20:00:00Z","capacity":1,"timeZone":"Europe/Berlin",
+         "recurrence":"FREQ=WEEKLY;BYDAY=TU;COUNT=52"}
+        """;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private EventSeriesRepository seriesRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+
+    private String organizer;
+    private String organizerId;
+    private String attendee;
+    private String otherAttendee;
+
+    @BeforeEach
+    void login() {
+        User org = userRepository.save(User.builder()
+                .name("Org").email("series-org@example.com").password("x").role(User.Role.ORGANIZER).build());
+        organizer = "Bearer " + jwtService.generateToken(org);
+        organizerId = String.valueOf(org.getId());
+        attendee = "Bearer " + jwtService.generateToken(userRepository.save(User.builder()
+                .name("A").email("series-a@example.com").password("x").role(User.Role.ATTENDEE).build()));
+        otherAttendee = "Bearer " + jwtService.generateToken(userRepository.save(User.builder()
+                .name("B").email("series-b@example.com").password("x").role(User.Role.ATTENDEE).build()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        seriesRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void series_ShouldListLazily_AndMaterializeOnFirstRegistration() throws Exception {
+        String series = createSeries(WEEKLY_JSON);
+        assertEquals(0, eventRepository.count());
+
+        String firstPage = mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-01-01T00:00:00Z").param("organizerId", organizerId).param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].id").value(nullValue()))
+                .andExpect(jsonPath("$.items[0].seriesId").value(Integer.parseInt(series)))
+                .andExpect(jsonPath("$.items[2].startTime").value("2031-01-21T18:00:00Z"))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-01-01T00:00:00Z").param("organizerId", organizerId).param("limit", "3")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(jsonPath("$.items[0].startTime").value("2031-01-28T18:00:00Z"));
+
+        // still 19:00 local once Berlin is on summer time
+        mockMvc.perform(get("/api/series/" + series + "/occurrences").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-04-01T00:00:00Z").param("limit", "1"))
+                .andExpect(jsonPath("$[0].startTime").value("2031-04-01T17:00:00Z"));
+
+        String occurrence = "/api/series/" + series + "/occurrences/2031-01-14T18:00:00Z/registrations";
+        mockMvc.perform(post(occurrence).header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+        mockMvc.perform(post(occurrence).header(HttpHeaders.AUTHORIZATION, otherAttendee))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("WAITLISTED"));
+        assertEquals(1, eventRepository.count());
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-01-01T00:00:00Z").param("organizerId", organizerId).param("limit", "3"))
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[1].startTime").value("2031-01-14T18:00:00Z"))
+                .andExpect(jsonPath("$.items[1].id").isNumber())
+                .andExpect(jsonPath("$.items[2].id").value(nullValue()));
+
+        mockMvc.perform(post("/api/series/" + series + "/occurrences/2031-01-15T18:00:00Z/registrations")
+                        .header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void series_ShouldBeCheckedForOverlaps_AgainstEventsAndRules() throws Exception {
+        mockMvc.perform(post("/api/events").header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"title":"Workshop","startTime":"2031-06-03T18:30:00Z",
+                             "endTime":"2031-06-03T20:00:00Z","capacity":10}
+                            """))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/series").header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON).content(WEEKLY_JSON))
+                .andExpect(status().isConflict());
+
+        createSeries(WEEKLY_JSON.replace("2031-01-07", "2030-01-08"));   // 2030: clear of the workshop
+        mockMvc.perform(post("/api/events").header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"title":"Clash","startTime":"2030-05-14T16:30:00Z",
+                             "endTime":"2030-05-14T17:30:00Z","capacity":10}
+                            """))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void series_ShouldBeRejected_WhenUntilIsBeforeStart() throws Exception {
+        mockMvc.perform(post("/api/series").header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(WEEKLY_JSON.replace("COUNT=52", "UNTIL=20301231T000000Z")))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, seriesRepository.count());
+    }
+
+    @Test
+    void cancelledOccurrence_ShouldDisappear_AndRejectRegistrations() throws Exception {
+        String series = createSeries(WEEKLY_JSON);
+
+        mockMvc.perform(delete("/api/series/" + series + "/occurrences/2031-01-07T18:00:00Z")
+                        .header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/series/" + series + "/occurrences/2031-01-07T18:00:00Z")
+                        .header(HttpHeaders.AUTHORIZATION, organizer))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/series/" + series + "/occurrences").header(HttpHeaders.AUTHORIZATION, attendee)
+                        .param("from", "2031-01-01T00:00:00Z").param("limit", "2"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].startTime").value("2031-01-14T18:00:00Z"));
+        mockMvc.perform(post("/api/series/" + series + "/occurrences/2031-01-07T18:00:00Z/registrations")
+                        .header(HttpHeaders.AUTHORIZATION, attendee))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String createSeries(String json) throws Exception {
+        String body = mockMvc.perform(post("/api/series").header(HttpHeaders.AUTHORIZATION, organizer)
+                        .contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.occurrenceCount").value(52))
+                .andReturn().getResponse().getContentAsString();
+        return String.valueOf(JsonPath.<Integer>read(body, "$.id"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.eventmate.controller;
+
+import com.eventmate.entity.User;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// metrics export is off in tests unless asked for
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class HealthControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private UserRepository userRepository;
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void health_ShouldReportDatabasePing() throws Exception {
+        mockMvc.perform(get("/api/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.db.status").value("UP"))
+                .andExpect(jsonPath("$.db.latencyMs").isNumber());
+    }
+
+    @Test
+    void health_ShouldFailFast_WhenNoConnectionCanBeAcquired() throws Exception {
+        DataSource exhausted = mock(DataSource.class);
+        CountDownLatch released = new CountDownLatch(1);
+        when(exhausted.getConnection()).thenAnswer(inv -> {
+            released.await();
+            throw new SQLTransientConnectionException("HikariPool-1 - db.internal:5432 - Connection is not available");
+        });
+        HealthController controller = new HealthController(exhausted);
+        try {
+            long start = System.nanoTime();
+            ResponseEntity<Map<String, Object>> first = controller.health();
+            ResponseEntity<Map<String, Object>> second = controller.health();
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(10)) < 0);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, first.getStatusCode());
+            assertEquals(Map.of("error", "database did not answer in time", "status", "DOWN"),
+                    withoutLatency(second.getBody()));
+            verify(exhausted, times(1)).getConnection();   // the second probe joined the running check
+
+            released.countDown();
+            assertEquals("database unavailable", withoutLatency(controller.health().getBody()).get("error"));
+        } finally {
+            released.countDown();
+            controller.shutdown();
+        }
+    }
+
+    @Test
+    void prometheus_ShouldExposeStatementCountsAndHotPathMetrics() throws Exception {
+        User user = userRepository.save(User.builder()
+                .name("Org").email("metrics@example.com").password("x").role(User.Role.ORGANIZER).build());
+        mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(user)))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("eventmate_jwt_verify_seconds_count{outcome=\"valid\"}")))
+                .andReturn().getResponse().getContentAsString();
+        Matcher listing = Pattern.compile("eventmate_http_db_statements_sum\\{method=\"GET\",uri=\"/api/events\"} (\\S+)")
+                .matcher(scrape);
+        assertTrue(listing.find(), "no statement count for the event listing");
+        assertTrue(Double.parseDouble(listing.group(1)) >= 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> withoutLatency(Map<String, Object> body) {
+        Map<String, Object> db = new HashMap<>((Map<String, Object>) body.get("db"));
+        db.remove("latencyMs");
+        return db;
+    }
+}
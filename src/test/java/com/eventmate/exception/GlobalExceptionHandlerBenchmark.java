@@ -0,0 +1,98 @@
+package com.eventmate.exception;
+
+import com.eventmate.dto.ProblemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of an error response: constructing the exception, building the body in the handler and
+ * serializing it. The {@code legacy*} methods reproduce the handler as it was before
+ * {@link ProblemResponse} (stack-trace-capturing exceptions, a HashMap body with a formatted
+ * timestamp) as the baseline. Run with {@code -prof gc} (main does) and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private WebRequest loginRequest;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setup() {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/events/1/registrations"));
+        loginRequest = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/auth/login"));
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemResponse> conflictResponse() {
+        return handler.handleConflict(new ConflictException("Event is full"), request);
+    }
+
+    @Benchmark
+    public byte[] conflictResponseSerialized() throws Exception {
+        return mapper.writeValueAsBytes(handler.handleConflict(new ConflictException("Event is full"), request).getBody());
+    }
+
+    @Benchmark
+    public byte[] failedLoginSerialized() throws Exception {
+        return mapper.writeValueAsBytes(handler.handleInvalidCredentials(new InvalidCredentialsException(), loginRequest).getBody());
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> legacyConflictResponse() {
+        return legacyResponse(new IllegalStateException("Event is full"), HttpStatus.CONFLICT, request);
+    }
+
+    @Benchmark
+    public byte[] legacyConflictResponseSerialized() throws Exception {
+        return mapper.writeValueAsBytes(
+                legacyResponse(new IllegalStateException("Event is full"), HttpStatus.CONFLICT, request).getBody());
+    }
+
+    @Benchmark
+    public byte[] legacyFailedLoginSerialized() throws Exception {
+        return mapper.writeValueAsBytes(
+                legacyResponse(new RuntimeException("Invalid credentials"), HttpStatus.INTERNAL_SERVER_ERROR, loginRequest).getBody());
+    }
+
+    private static ResponseEntity<Object> legacyResponse(Exception ex, HttpStatus status, WebRequest request) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", ex.getMessage());
+        body.put("path", request.getDescription(false));
+        return ResponseEntity.status(status).body(body);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GlobalExceptionHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
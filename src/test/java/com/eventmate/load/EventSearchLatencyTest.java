@@ -0,0 +1,144 @@
+package com.eventmate.load;
+
+import com.eventmate.PostgresTestDatabase;
+import com.eventmate.dto.EventSearchPage;
+import com.eventmate.service.EventService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Acceptance check for full-text search: seeds the events table up to
+ * -Deventmate.load.searchRows (default 1M) once, then times first and third pages of
+ * selective and broad queries. Every match is ranked, so latency follows the number of
+ * matching rows: selective queries (a few thousand matches at most) must stay under
+ * -Deventmate.load.searchP95Ms, and broad ones (a single common word, 2-8% of the table)
+ * under -Deventmate.load.broadSearchP95Ms.
+ * Needs Postgres, set up by {@link PostgresTestDatabase}: export EVENTMATE_IT_DB_URL (and
+ * optionally EVENTMATE_IT_DB_USER / EVENTMATE_IT_DB_PASSWORD) and run
+ * {@code mvn test -Pload -Dtest=EventSearchLatencyTest}.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class EventSearchLatencyTest {
+
+    private static final int ROWS = Integer.getInteger("eventmate.load.searchRows", 1_000_000);
+    private static final double P95_BUDGET_MS = Double.parseDouble(System.getProperty("eventmate.load.searchP95Ms", "100"));
+    private static final double BROAD_P95_BUDGET_MS = Double.parseDouble(System.getProperty("eventmate.load.broadSearchP95Ms", "500"));
+    private static final int ROUNDS = Integer.getInteger("eventmate.load.searchRounds", 50);
+    private static final String SEED_EMAIL = "search-seed@example.com";
+
+    private static final List<String> SELECTIVE = List.of(
+            "kubernetes berlin",           // topic and city, ~2k matches
+            "kafka hackathon lisbon",
+            "session 424242"               // a single row by its generated number
+    );
+    private static final List<String> BROAD = List.of(
+            "kubernetes",                  // ~25k matches
+            "\"machine learning\" workshop",
+            "rust -beginner",
+            "observability"                // ~75k matches
+    );
+
+    @Autowired private EventService eventService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Test
+    void search_ShouldStayWithinLatencyBudget_OnSeededTable() {
+        seed();
+        Instant from = Instant.now().truncatedTo(ChronoUnit.DAYS);
+
+        LatencyRecorder selective = measure("selective", SELECTIVE, from);
+        LatencyRecorder broad = measure("broad", BROAD, from);
+
+        assertTrue(selective.percentileMillis(95) <= P95_BUDGET_MS, "selective search p95 over budget");
+        assertTrue(broad.percentileMillis(95) <= BROAD_P95_BUDGET_MS, "broad search p95 over budget");
+    }
+
+    // Times the first and third page of each query; the first round only warms the caches.
+    private LatencyRecorder measure(String name, List<String> queries, Instant from) {
+        LatencyRecorder recorder = new LatencyRecorder("search " + name);
+        for (int round = 0; round <= ROUNDS; round++) {
+            for (String q : queries) {
+                long began = System.nanoTime();
+                EventSearchPage page = eventService.searchEvents(q, from, null, 20);
+                long elapsed = System.nanoTime() - began;
+                assertFalse(page.items().isEmpty(), q);
+                if (round > 0) recorder.record(elapsed);
+
+                String cursor = page.nextCursor();
+                for (int i = 0; i < 2 && cursor != null; i++) {
+                    began = System.nanoTime();
+                    page = eventService.searchEvents(q, from, cursor, 20);
+                    if (round > 0 && i == 1) recorder.record(System.nanoTime() - began);
+                    cursor = page.nextCursor();
+                }
+            }
+        }
+        log.info("{}  p95={}ms", recorder.summary(), "%.2f".formatted(recorder.percentileMillis(95)));
+        return recorder;
+    }
+
+    // Generates ROWS events for one organizer in consecutive hourly slots; reused across runs.
+    private void seed() {
+        Long organizer = jdbcTemplate.query("select id from users where email = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, SEED_EMAIL);
+        if (organizer == null) {
+            organizer = jdbcTemplate.queryForObject("""
+                insert into users (name, email, password, role) values ('Search seed', ?, 'x', 'ORGANIZER')
+                returning id
+                """, Long.class, SEED_EMAIL);
+        }
+        long existing = jdbcTemplate.queryForObject("select count(*) from events where created_by = ?", Long.class, organizer);
+        if (existing >= ROWS) return;
+
+        long began = System.nanoTime();
+        jdbcTemplate.update("""
+            insert into events (title, description, location, start_time, end_time, capacity, booked,
+                                created_by, created_at, version)
+            select topic[1 + i % 40] || ' ' || format[1 + (i / 40) % 8] || ' session ' || i,
+                   'A ' || level[1 + i % 3] || ' ' || format[1 + (i / 40) % 8] || ' on ' || topic[1 + i % 40]
+                       || ' and ' || topic[1 + (i * 7) % 40] || ', with time for questions about '
+                       || topic[1 + (i * 13) % 40] || ' in production.',
+                   city[1 + (i / 7) % 12],
+                   date_trunc('day', now()) + interval '1 day' + i * interval '1 hour',
+                   date_trunc('day', now()) + interval '1 day' + i * interval '1 hour' + interval '45 minutes',
+                   100, 0, ?, now(), 0
+            from generate_series(?::bigint + 1, ?::bigint) as i,
+                 (select array['kubernetes', 'rust', 'java', 'kotlin', 'python', 'postgres', 'observability',
+                               'machine learning', 'security', 'react', 'graphql', 'kafka', 'terraform', 'go',
+                               'webassembly', 'linux', 'networking', 'testing', 'design systems', 'accessibility',
+                               'data engineering', 'spark', 'flink', 'redis', 'elasticsearch', 'android', 'ios',
+                               'swift', 'scala', 'haskell', 'elixir', 'devops', 'sre', 'product management',
+                               'ux research', 'startups', 'open source', 'embedded', 'robotics', 'blockchain'] as topic,
+                         array['meetup', 'workshop', 'talk', 'conference', 'hackathon', 'panel', 'bootcamp', 'webinar'] as format,
+                         array['beginner', 'intermediate', 'advanced'] as level,
+                         array['Berlin', 'Pune', 'London', 'Austin', 'Lisbon', 'Tokyo', 'Toronto', 'Nairobi',
+                               'Sydney', 'Warsaw', 'Madrid', 'Singapore'] as city) as words
+            """, organizer, existing, (long) ROWS);
+        jdbcTemplate.execute("analyze events");
+        log.info("seeded {} events in {} s", ROWS - existing, (System.nanoTime() - began) / 1_000_000_000);
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventmate.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/** Collects request latencies from many client threads and reports percentiles. */
+final class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+    private final Map<Integer, Integer> failures = new TreeMap<>();
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = nanos;
+    }
+
+    // Non-success responses by status code; -1 for transport errors.
+    synchronized void recordFailure(int status) {
+        failures.merge(status, 1, Integer::sum);
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    synchronized Map<Integer, Integer> failures() {
+        return new TreeMap<>(failures);
+    }
+
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+
+    String summary() {
+        return String.format("%-28s n=%-7d p50=%8.2fms  p99=%8.2fms  p99.9=%8.2fms",
+                name, count(), percentileMillis(50), percentileMillis(99), percentileMillis(99.9));
+    }
+
+    String summary(double seconds) {
+        return String.format("%s  %8.1f ok/s  failures=%s", summary(), count() / seconds, failures());
+    }
+}
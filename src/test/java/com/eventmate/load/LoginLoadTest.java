@@ -0,0 +1,129 @@
+package com.eventmate.load;
+
+import com.eventmate.config.VirtualThreads;
+import com.eventmate.dto.RegisterRequest;
+import com.eventmate.entity.User;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.eventmate.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures GET /api/events latency on its own and again while a crowd of clients hammers
+ * /api/auth/login at production BCrypt cost. Run with {@code mvn test -Pload}; tune with
+ * -Deventmate.load.seconds, -Deventmate.load.loginClients and -Deventmate.load.probeClients.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "eventmate.security.bcrypt.cost=10")
+@ActiveProfiles("test")
+class LoginLoadTest {
+
+    private static final int SECONDS = Integer.getInteger("eventmate.load.seconds", 10);
+    private static final int LOGIN_CLIENTS = Integer.getInteger("eventmate.load.loginClients", 64);
+    private static final int PROBE_CLIENTS = Integer.getInteger("eventmate.load.probeClients", 4);
+
+    @LocalServerPort private int port;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtService jwtService;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void loginSpike_ShouldNotStarveOtherEndpoints() throws Exception {
+        User user = userService.register(new RegisterRequest("Load", "load@example.com", "password123", "ORGANIZER")).join();
+        String bearer = "Bearer " + jwtService.generateToken(user);
+
+        LatencyRecorder quietEvents = new LatencyRecorder("GET /api/events (idle)");
+        run(PROBE_CLIENTS, () -> probe(bearer, quietEvents), 0, null);
+
+        LatencyRecorder busyEvents = new LatencyRecorder("GET /api/events (login load)");
+        LatencyRecorder logins = new LatencyRecorder("POST /api/auth/login");
+        AtomicInteger rejected = new AtomicInteger();
+        run(PROBE_CLIENTS, () -> probe(bearer, busyEvents), LOGIN_CLIENTS, () -> login(logins, rejected));
+
+        System.out.printf("%n%d login clients, %d probe clients, %ds per phase, %d cores%n",
+                LOGIN_CLIENTS, PROBE_CLIENTS, SECONDS, Runtime.getRuntime().availableProcessors());
+        System.out.println(quietEvents.summary());
+        System.out.println(busyEvents.summary());
+        System.out.println(logins.summary());
+        System.out.printf("%-28s %d%n", "logins rejected (429)", rejected.get());
+
+        assertTrue(logins.count() > 0, "no login succeeded");
+        assertTrue(busyEvents.count() > 0, "no event listing completed under login load");
+    }
+
+    private void run(int probes, Runnable probe, int loaders, Runnable load) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        ExecutorService clients = VirtualThreads.newPerTaskExecutor("load-client-", probes + loaders);
+        for (int i = 0; i < probes; i++) clients.execute(() -> repeatUntil(deadline, probe));
+        for (int i = 0; i < loaders; i++) clients.execute(() -> repeatUntil(deadline, load));
+        clients.shutdown();
+        clients.awaitTermination(SECONDS + 30L, TimeUnit.SECONDS);
+    }
+
+    private static void repeatUntil(long deadline, Runnable action) {
+        while (System.nanoTime() < deadline) action.run();
+    }
+
+    private void probe(String bearer, LatencyRecorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                .header("Authorization", bearer).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = send(request);
+        if (response != null && response.statusCode() == 200) recorder.record(System.nanoTime() - start);
+    }
+
+    private void login(LatencyRecorder recorder, AtomicInteger rejected) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"load@example.com\",\"password\":\"password123\"}"))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = send(request);
+        if (response == null) return;
+        if (response.statusCode() == 200) {
+            recorder.record(System.nanoTime() - start);
+        } else if (response.statusCode() == 429) {
+            // back off as a well-behaved client would
+            rejected.incrementAndGet();
+            long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
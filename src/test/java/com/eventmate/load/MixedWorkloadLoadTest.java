@@ -0,0 +1,318 @@
+package com.eventmate.load;
+
+import com.eventmate.config.VirtualThreads;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the whole application on a random port and drives a mixed workload of login, create,
+ * update, get and register from many concurrent clients (virtual threads on Java 21+). Prints
+ * throughput and latency percentiles per endpoint plus Hikari connection acquire times.
+ * <p>
+ * Runs offline against the in-memory H2 of the test profile; set EVENTMATE_IT_DB_URL (and
+ * optionally EVENTMATE_IT_DB_USER / EVENTMATE_IT_DB_PASSWORD) to run it against Postgres instead.
+ * Start it with {@code mvn test -Pload -Dtest=MixedWorkloadLoadTest} and tune with
+ * -Deventmate.load.seconds, -Deventmate.load.warmupSeconds and -Deventmate.load.clients.
+ * -Deventmate.load.dbLatencyMs adds a delay to every SQL statement to imitate a slow database, and
+ * -Dspring.threads.virtual.enabled=true (on a Java 21 JVM) switches to virtual request threads
+ * with the database limiter in front of the services.
+ * Clients use fixed seeds, so the sequence of operations is the same from run to run.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.metrics.distribution.percentiles.hikaricp.connections.acquire=0.5,0.99,0.999",
+        "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.eventmate.load.SlowStatementInspector"
+})
+@ActiveProfiles("test")
+class MixedWorkloadLoadTest {
+
+    private static final int SECONDS = Integer.getInteger("eventmate.load.seconds", 20);
+    private static final int WARMUP_SECONDS = Integer.getInteger("eventmate.load.warmupSeconds", 5);
+    private static final int CLIENTS = Integer.getInteger("eventmate.load.clients", 64);
+    private static final int ORGANIZERS = 20;
+    private static final int EVENTS_PER_ORGANIZER = 50;
+    private static final int ATTENDEES = 500;
+    private static final String PASSWORD = "password123";
+    private static final Instant SEEDED_FROM = Instant.parse("2031-01-01T00:00:00Z");
+    private static final Instant CREATED_FROM = Instant.parse("2035-01-01T00:00:00Z");
+
+    enum Op {
+        GET(45), REGISTER(20), LOGIN(15), CREATE(10), UPDATE(10);
+
+        final int weight;
+
+        Op(int weight) {
+            this.weight = weight;
+        }
+
+        static Op pick(Random random) {
+            int roll = random.nextInt(100);
+            for (Op op : values()) {
+                if ((roll -= op.weight) < 0) return op;
+            }
+            return GET;
+        }
+    }
+
+    @DynamicPropertySource
+    static void externalDatabase(DynamicPropertyRegistry registry) {
+        String url = System.getenv("EVENTMATE_IT_DB_URL");
+        if (url == null || url.isBlank()) return;
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("EVENTMATE_IT_DB_USER", "eventmate_user"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("EVENTMATE_IT_DB_PASSWORD", "eventmate_pass"));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("eventmate.events.rely-on-overlap-constraint", () -> "true");
+    }
+
+    @LocalServerPort private int port;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private DataSource dataSource;
+    @Autowired private Environment environment;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong createdSlots = new AtomicLong();
+
+    private List<User> organizers;
+    private List<User> attendees;
+    private List<String> organizerTokens;
+    private List<String> attendeeTokens;
+    private List<Event> events;
+
+    @BeforeEach
+    void seed() {
+        String hash = passwordEncoder.encode(PASSWORD);
+        organizers = userRepository.saveAll(users("organizer", ORGANIZERS, User.Role.ORGANIZER, hash));
+        attendees = userRepository.saveAll(users("attendee", ATTENDEES, User.Role.ATTENDEE, hash));
+        organizerTokens = organizers.stream().map(jwtService::generateToken).toList();
+        attendeeTokens = attendees.stream().map(jwtService::generateToken).toList();
+
+        List<Event> seeded = new ArrayList<>();
+        for (int o = 0; o < ORGANIZERS; o++) {
+            for (int e = 0; e < EVENTS_PER_ORGANIZER; e++) {
+                Instant start = SEEDED_FROM.plus(Duration.ofHours(3L * e));
+                seeded.add(Event.builder().title("Seeded " + o + "-" + e).location("Hall " + (e % 10))
+                        .startTime(start).endTime(start.plus(Duration.ofHours(2))).capacity(1_000)
+                        .createdBy(organizers.get(o).getId()).createdAt(Instant.now()).build());
+            }
+        }
+        events = eventRepository.saveAll(seeded);
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAllInBatch();
+        registrationRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        Map<Op, LatencyRecorder> warmup = recorders();
+        drive(WARMUP_SECONDS, warmup, new AtomicInteger(), 0);
+
+        Map<Op, LatencyRecorder> measured = recorders();
+        AtomicInteger peakWaiting = new AtomicInteger();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        long acquiresBefore = acquire != null ? acquire.count() : 0;
+        double acquireNanosBefore = acquire != null ? acquire.totalTime(TimeUnit.NANOSECONDS) : 0;
+
+        long started = System.nanoTime();
+        drive(SECONDS, measured, peakWaiting, CLIENTS);
+        double elapsed = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("%n%d clients (%s threads), %ds measured after %ds warm-up, %d cores, %s%n",
+                CLIENTS, VirtualThreads.isSupported() ? "virtual" : "platform", SECONDS, WARMUP_SECONDS,
+                Runtime.getRuntime().availableProcessors(), dataSource.unwrap(HikariDataSource.class).getJdbcUrl());
+        System.out.printf("request threads: %s, db limiter: %s, simulated db latency: %dms%n",
+                environment.getProperty("spring.threads.virtual.enabled", "false").equals("true") && VirtualThreads.isSupported()
+                        ? "virtual" : "platform",
+                environment.getProperty("eventmate.concurrency.db-limiter.enabled", "false"),
+                Long.getLong("eventmate.load.dbLatencyMs", 0));
+        int total = 0;
+        for (LatencyRecorder recorder : measured.values()) {
+            System.out.println(recorder.summary(elapsed));
+            total += recorder.count();
+        }
+        System.out.printf("%-28s %.1f ok/s%n", "total", total / elapsed);
+        if (acquire != null) {
+            long acquires = acquire.count() - acquiresBefore;
+            double meanMillis = acquires == 0 ? 0 : (acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanosBefore) / acquires / 1e6;
+            StringBuilder percentiles = new StringBuilder();
+            for (ValueAtPercentile p : acquire.takeSnapshot().percentileValues()) {
+                percentiles.append(String.format("  p%s=%.2fms", p.percentile() * 100, p.value(TimeUnit.MILLISECONDS)));
+            }
+            System.out.printf("%-28s n=%-7d mean=%.3fms%s  max=%.2fms  peak waiting threads=%d  pool size=%d%n",
+                    "hikari connection acquire", acquires, meanMillis, percentiles,
+                    acquire.max(TimeUnit.MILLISECONDS), peakWaiting.get(),
+                    dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+        }
+
+        for (Map.Entry<Op, LatencyRecorder> entry : measured.entrySet()) {
+            assertTrue(entry.getValue().count() > 0, "no successful " + entry.getKey());
+            assertEquals(0, entry.getValue().failures().keySet().stream().filter(s -> s >= 500 || s < 0).count(),
+                    entry.getKey() + " had server or transport errors: " + entry.getValue().failures());
+        }
+    }
+
+    private Map<Op, LatencyRecorder> recorders() {
+        Map<Op, LatencyRecorder> recorders = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) recorders.put(op, new LatencyRecorder(op.name()));
+        return recorders;
+    }
+
+    // Each phase seeds its clients differently so the measured run does not replay warm-up registrations.
+    private void drive(int seconds, Map<Op, LatencyRecorder> recorders, AtomicInteger peakWaiting, int seedBase)
+            throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        ExecutorService clients = VirtualThreads.newPerTaskExecutor("load-client-", CLIENTS + 1);
+        for (int i = 0; i < CLIENTS; i++) {
+            Random random = new Random(seedBase + i);
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Op op = Op.pick(random);
+                    call(op, random, recorders.get(op));
+                }
+            });
+        }
+        clients.execute(() -> {
+            while (System.nanoTime() < deadline) {
+                peakWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(seconds + 60L, TimeUnit.SECONDS), "clients did not finish");
+    }
+
+    private void call(Op op, Random random, LatencyRecorder recorder) {
+        HttpRequest request = switch (op) {
+            case GET -> {
+                Event event = events.get(random.nextInt(events.size()));
+                yield request("/api/events/" + event.getId(), attendeeTokens.get(random.nextInt(ATTENDEES))).GET().build();
+            }
+            case REGISTER -> {
+                Event event = events.get(random.nextInt(events.size()));
+                yield request("/api/events/" + event.getId() + "/registrations", attendeeTokens.get(random.nextInt(ATTENDEES)))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build();
+            }
+            case LOGIN -> {
+                User user = attendees.get(random.nextInt(ATTENDEES));
+                yield request("/api/auth/login", null)
+                        .POST(json("{\"email\":\"%s\",\"password\":\"%s\"}".formatted(user.getEmail(), PASSWORD))).build();
+            }
+            case CREATE -> {
+                // every created event gets its own two-hour slot, so creates never overlap
+                Instant start = CREATED_FROM.plus(Duration.ofHours(2 * createdSlots.getAndIncrement()));
+                yield request("/api/events", organizerTokens.get(random.nextInt(ORGANIZERS)))
+                        .POST(json(eventJson("Created", start, 100))).build();
+            }
+            case UPDATE -> {
+                int index = random.nextInt(events.size());
+                Event event = events.get(index);
+                yield request("/api/events/" + event.getId(), organizerTokens.get(index / EVENTS_PER_ORGANIZER))
+                        .PUT(json(eventJson("Updated " + random.nextInt(1_000), event.getStartTime(), 1_000 + random.nextInt(500))))
+                        .build();
+            }
+        };
+
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception ex) {
+            status = -1;
+        }
+        if (status >= 200 && status < 300) {
+            recorder.record(System.nanoTime() - start);
+        } else {
+            recorder.recordFailure(status);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private static String eventJson(String title, Instant start, int capacity) {
+        return """
+            {"title":"%s","location":"Hall 1","startTime":"%s","endTime":"%s","capacity":%d}
+            """.formatted(title, start, start.plus(Duration.ofHours(2)), capacity);
+    }
+
+    private static List<User> users(String prefix, int count, User.Role role, String passwordHash) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder().name(prefix + " " + i).email(prefix + i + "@load.example.com")
+                    .password(passwordHash).role(role).build());
+        }
+        return users;
+    }
+}
@@ -0,0 +1,158 @@
+package com.eventmate.load;
+
+import com.eventmate.entity.Event;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import com.eventmate.security.JwtService;
+import com.eventmate.service.RegistrationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opens -Deventmate.load.seatSubscribers (default 2000) seat streams on one event over plain
+ * sockets, prints the heap retained per open connection, then books -Deventmate.load.seatBookings
+ * seats and checks that every subscriber ends on the final count, printing how many messages
+ * the bookings were coalesced into. Client and server share the JVM, so the per-connection
+ * figure includes the few hundred bytes of the client socket.
+ * Start it with {@code mvn test -Pload -Dtest=SeatStreamLoadTest}; file descriptors for two
+ * sockets per subscriber are needed.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eventmate.seats.stream.coalesce-ms=100",
+        "server.tomcat.max-connections=20000",
+        // the default backlog of 100 overflows while thousands of sockets connect at once
+        "server.tomcat.accept-count=4096"
+})
+@ActiveProfiles("test")
+class SeatStreamLoadTest {
+
+    private static final int SUBSCRIBERS = Integer.getInteger("eventmate.load.seatSubscribers", 2_000);
+    private static final int BOOKINGS = Integer.getInteger("eventmate.load.seatBookings", 200);
+
+    @LocalServerPort private int port;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private RegistrationService registrationService;
+    @Autowired private JwtService jwtService;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() throws IOException {
+        for (Socket socket : sockets) socket.close();
+        outboxRepository.deleteAllInBatch();
+        registrationRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void thousandsOfSubscribers_ShareOneFanOut() throws Exception {
+        User organizer = userRepository.save(user("seat-organizer", User.Role.ORGANIZER));
+        List<User> attendees = userRepository.saveAll(IntStream.range(0, BOOKINGS)
+                .mapToObj(i -> user("seat-attendee-" + i, User.Role.ATTENDEE)).toList());
+        Instant start = Instant.parse("2033-01-01T10:00:00Z");
+        Event event = eventRepository.save(Event.builder().title("Sold out soon").location("Main hall")
+                .startTime(start).endTime(start.plus(Duration.ofHours(2))).capacity(BOOKINGS)
+                .createdBy(organizer.getId()).createdAt(Instant.now()).build());
+        String token = jwtService.generateToken(organizer);
+        byte[] request = ("GET /api/events/" + event.getId() + "/seats/stream HTTP/1.1\r\n"
+                + "Host: localhost\r\nAccept: text/event-stream\r\nAuthorization: Bearer " + token + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = settledHeap(memory);
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            Socket socket = new Socket("localhost", port);
+            socket.setSoTimeout(10_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(request);
+            out.flush();
+            sockets.add(socket);
+        }
+        awaitSubscribers(SUBSCRIBERS);
+        long heapPerConnection = (settledHeap(memory) - heapBefore) / SUBSCRIBERS;
+        System.out.printf("%d subscribers open, ~%d bytes of heap per connection%n", SUBSCRIBERS, heapPerConnection);
+
+        long began = System.nanoTime();
+        for (User attendee : attendees) registrationService.register(attendee.getId(), event.getId());
+        System.out.printf("%d bookings in %d ms%n", BOOKINGS, (System.nanoTime() - began) / 1_000_000);
+
+        String last = "\"booked\":" + BOOKINGS;
+        int minMessages = Integer.MAX_VALUE, maxMessages = 0;
+        for (Socket socket : sockets) {
+            int messages = readUntil(socket.getInputStream(), last);
+            minMessages = Math.min(minMessages, messages);
+            maxMessages = Math.max(maxMessages, messages);
+        }
+        System.out.printf("every subscriber saw %s after %d-%d messages (including the initial snapshot)%n",
+                last, minMessages, maxMessages);
+        assertTrue(maxMessages <= BOOKINGS, "updates were not coalesced");
+        assertEquals(0.0, meterRegistry.counter("eventmate.seats.stream.dropped").count());
+    }
+
+    // Returns the number of seat messages read up to and including the one containing marker.
+    private static int readUntil(InputStream in, String marker) throws IOException {
+        StringBuilder received = new StringBuilder();
+        byte[] buffer = new byte[4096];
+        while (received.indexOf(marker) < 0) {
+            int n = in.read(buffer);
+            if (n < 0) throw new IOException("stream closed before " + marker);
+            received.append(new String(buffer, 0, n, StandardCharsets.UTF_8));
+        }
+        String upToMarker = received.substring(0, received.indexOf(marker));
+        return upToMarker.split("event:seats", -1).length - 1;
+    }
+
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        double open = 0;
+        while (System.nanoTime() < deadline) {
+            open = meterRegistry.get("eventmate.seats.stream.subscribers").gauge().value();
+            if (open >= expected) return;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("only " + (int) open + " of " + expected + " subscribers connected");
+    }
+
+    private static long settledHeap(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static User user(String name, User.Role role) {
+        return User.builder().name(name).email(name + "@example.com").password("x").role(role).build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventmate.load;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Simulates a slow database: sleeps for -Deventmate.load.dbLatencyMs before every statement,
+ * on the calling thread and while it holds its connection, as a slow Postgres round trip would.
+ */
+public class SlowStatementInspector implements StatementInspector {
+
+    private static final long LATENCY_MS = Long.getLong("eventmate.load.dbLatencyMs", 0);
+
+    @Override
+    public String inspect(String sql) {
+        if (LATENCY_MS > 0) {
+            try {
+                Thread.sleep(LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
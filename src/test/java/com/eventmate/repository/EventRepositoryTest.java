@@ -0,0 +1,80 @@
+package com.eventmate.repository;
+
+import com.eventmate.dto.EventCursor;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.entity.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void seed() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            // pairs of events share a start time so the id tie-breaker is exercised
+            Instant start = BASE.plus(Duration.ofHours(i / 2));
+            events.add(Event.builder()
+                    .title("Event " + i)
+                    .location(i % 3 == 0 ? "Pune" : "Mumbai")
+                    .startTime(start)
+                    .endTime(start.plus(Duration.ofMinutes(30)))
+                    .capacity(10)
+                    .createdBy(i % 2 == 0 ? 1L : 2L)
+                    .createdAt(Instant.now())
+                    .build());
+        }
+        eventRepository.saveAll(events);
+    }
+
+    @Test
+    void findPage_ShouldWalkAllRowsInKeyOrder() {
+        EventFilter all = new EventFilter(BASE, null, null, null);
+        List<EventResponse> seen = new ArrayList<>();
+        EventCursor cursor = null;
+        do {
+            List<EventResponse> page = eventRepository.findPage(all, cursor, 7);
+            seen.addAll(page);
+            cursor = page.size() < 7 ? null
+                    : new EventCursor(page.get(page.size() - 1).startTime(), page.get(page.size() - 1).id());
+        } while (cursor != null);
+
+        assertEquals(30, seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            EventResponse prev = seen.get(i - 1), cur = seen.get(i);
+            assertTrue(prev.startTime().isBefore(cur.startTime())
+                    || (prev.startTime().equals(cur.startTime()) && prev.id() < cur.id()));
+        }
+    }
+
+    @Test
+    void findPage_ShouldApplyFilters() {
+        EventFilter filter = new EventFilter(BASE, BASE.plus(Duration.ofHours(6)), "Pune", 1L);
+
+        List<EventResponse> page = eventRepository.findPage(filter, null, 50);
+
+        assertFalse(page.isEmpty());
+        assertTrue(page.stream().allMatch(e -> e.location().equals("Pune") && e.createdBy().equals(1L)
+                && e.startTime().isBefore(BASE.plus(Duration.ofHours(6)))));
+    }
+}
@@ -0,0 +1,47 @@
+package com.eventmate.repository;
+
+import com.eventmate.PostgresTestDatabase;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The context only starts once every migration has run and Hibernate has validated the
+ * entities against the resulting schema; this checks nothing was left pending.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("postgres")
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class MigrationTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired private Flyway flyway;
+
+    @Test
+    void migrations_ShouldAllBeApplied() {
+        MigrationInfoService info = flyway.info();
+        MigrationInfo[] all = info.all();
+
+        assertEquals(0, info.pending().length);
+        assertTrue(Arrays.stream(all).noneMatch(migration -> migration.getState().isFailed()));
+        assertEquals(all[all.length - 1].getVersion(), info.current().getVersion());
+        assertTrue(flyway.validateWithResult().validationSuccessful);
+    }
+}
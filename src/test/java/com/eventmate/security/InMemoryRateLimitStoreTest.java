@@ -0,0 +1,68 @@
+package com.eventmate.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(-5 * SECOND);
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(Duration.ofMinutes(10), 1000, clock::get);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenRefillOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryAcquire("k", SECOND, 3));
+        }
+        assertEquals(SECOND, store.tryAcquire("k", SECOND, 3));
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(SECOND / 2, store.tryAcquire("k", SECOND, 3));
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(0, store.tryAcquire("k", SECOND, 3));
+        assertTrue(store.tryAcquire("k", SECOND, 3) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotAccumulateBeyondBurstWhileIdle() {
+        clock.addAndGet(3600 * SECOND);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, store.tryAcquire("k", SECOND, 2));
+        }
+        assertTrue(store.tryAcquire("k", SECOND, 2) > 0);
+        assertEquals(0, store.tryAcquire("other", SECOND, 2));
+    }
+
+    @Test
+    void tryAcquire_ShouldGrantExactlyBurstUnderContention() throws Exception {
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.execute(() -> {
+                if (store.tryAcquire("shared", SECOND, 50) == 0) granted.incrementAndGet();
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(50, granted.get());
+    }
+
+    @Test
+    void size_ShouldStayWithinMaxKeys() {
+        InMemoryRateLimitStore bounded = new InMemoryRateLimitStore(Duration.ofMinutes(10), 100, clock::get);
+        for (int i = 0; i < 10_000; i++) {
+            bounded.tryAcquire("ip:" + i, SECOND, 1);
+        }
+        assertTrue(bounded.size() <= 100);
+    }
+}
@@ -0,0 +1,71 @@
+package com.eventmate.security;
+
+import com.eventmate.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full per-request authentication cost: header parsing, token verification, the revocation
+ * check and populating the security context, with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String bearer;
+
+    @Setup
+    public void setup() {
+        JwtService cached = new JwtService(10_000);
+        TokenRevocationService revocations = new TokenRevocationService(Duration.ofHours(24), true, Clock.systemUTC());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cachedFilter = new JwtAuthenticationFilter(cached, revocations, registry);
+        uncachedFilter = new JwtAuthenticationFilter(new JwtService(0), revocations, registry);
+        bearer = "Bearer " + cached.generateToken(
+                User.builder().id(42L).email("ash@example.com").role(User.Role.ORGANIZER).build());
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication filterCached() throws Exception {
+        return run(cachedFilter);
+    }
+
+    @Benchmark
+    public Authentication filterUncached() throws Exception {
+        return run(uncachedFilter);
+    }
+
+    private Authentication run(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1");
+        request.addHeader("Authorization", bearer);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthenticationFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
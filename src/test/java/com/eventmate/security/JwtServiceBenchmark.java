@@ -0,0 +1,59 @@
+package com.eventmate.security;
+
+import com.eventmate.entity.User;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token verification cost. {@code legacyIsValidThenExtract} reproduces the old
+ * filter path: a fresh parser for {@code isValid} and another for {@code extractEmail}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService cached;
+    private JwtService uncached;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cached = new JwtService(10_000);
+        uncached = new JwtService(0);
+        token = cached.generateToken(User.builder().id(42L).email("ash@example.com").role(User.Role.ORGANIZER).build());
+    }
+
+    @Benchmark
+    public String legacyIsValidThenExtract() {
+        Jwts.parser().verifyWith(uncached.signingKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(uncached.signingKey()).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public TokenClaims verifyUncached() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken(User.builder().id(42L).email("ash@example.com").role(User.Role.ORGANIZER).build());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.eventmate.security;
+
+import com.eventmate.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private final JwtService jwtService = new JwtService(1000);
+
+    private User user() {
+        return User.builder().id(42L).email("ash@example.com").role(User.Role.ORGANIZER).build();
+    }
+
+    @Test
+    void verify_ShouldCarryIdAndRole() {
+        String token = jwtService.generateToken(user());
+
+        TokenClaims claims = jwtService.verify(token);
+
+        assertEquals(42L, claims.userId());
+        assertEquals("ash@example.com", claims.email());
+        assertEquals("ORGANIZER", claims.role());
+        assertTrue(claims.expiresAt().isAfter(claims.issuedAt()));
+    }
+
+    @Test
+    void verify_ShouldFail_WhenTampered() {
+        String token = jwtService.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(RuntimeException.class, () -> jwtService.verify(tampered));
+        assertFalse(jwtService.isValid(tampered));
+    }
+
+    @Test
+    void verify_ShouldServeRepeatedTokensFromCache() {
+        String token = jwtService.generateToken(user());
+
+        assertSame(jwtService.verify(token), jwtService.verify(token));
+    }
+
+    @Test
+    void verify_ShouldParseEveryTime_WhenCacheDisabled() {
+        JwtService uncached = new JwtService(0);
+        String token = uncached.generateToken(user());
+
+        TokenClaims first = uncached.verify(token);
+        assertNotSame(first, uncached.verify(token));
+        assertEquals(first, uncached.verify(token));
+    }
+
+    @Test
+    void verify_ShouldDropCachedClaims_WhenTheTokenExpires() {
+        Instant issuedAt = Instant.parse("2025-12-01T10:00:00Z");
+        var now = new AtomicReference<>(issuedAt);
+        JwtService service = new JwtService(1000, clock(now));
+        String token = service.generateToken(user());
+        TokenClaims first = service.verify(token);
+        assertSame(first, service.verify(token));
+
+        now.set(issuedAt.plus(service.getTokenLifetime()).plusSeconds(1));
+
+        assertThrows(RuntimeException.class, () -> service.verify(token));
+    }
+
+    @Test
+    void isRevoked_ShouldRejectTokensIssuedBeforeRevocation() {
+        Instant now = Instant.parse("2025-12-01T10:00:00Z");
+        var revocations = new TokenRevocationService(Duration.ofHours(1), true, Clock.fixed(now, ZoneOffset.UTC));
+        TokenClaims old = new TokenClaims(42L, "ash@example.com", "ORGANIZER", now.minusSeconds(60), now.plusSeconds(3540));
+        TokenClaims fresh = new TokenClaims(42L, "ash@example.com", "ORGANIZER", now.plusSeconds(5), now.plusSeconds(3605));
+
+        assertFalse(revocations.isRevoked(old));
+        revocations.revokeUser(42L);
+
+        assertTrue(revocations.isRevoked(old));
+        assertFalse(revocations.isRevoked(fresh));
+    }
+
+    @Test
+    void isRevoked_ShouldForgetEntries_AfterTokenLifetime() {
+        Instant revokedAt = Instant.parse("2025-12-01T10:00:00Z");
+        var now = new AtomicReference<>(revokedAt);
+        var revocations = new TokenRevocationService(Duration.ofHours(1), true, clock(now));
+        TokenClaims old = new TokenClaims(42L, "ash@example.com", "ORGANIZER", revokedAt.minusSeconds(60), revokedAt);
+
+        revocations.revokeUser(42L);
+        assertTrue(revocations.isRevoked(old));
+
+        now.set(revokedAt.plus(Duration.ofHours(2)));
+        assertFalse(revocations.isRevoked(old));
+    }
+
+    private static Clock clock(AtomicReference<Instant> now) {
+        return new Clock() {
+            @Override public ZoneOffset getZone() { return ZoneOffset.UTC; }
+            @Override public Clock withZone(java.time.ZoneId zone) { return this; }
+            @Override public Instant instant() { return now.get(); }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.eventmate.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+
+    @Test
+    void matches_ShouldCheckAgainstStoredHash() {
+        PasswordHasher hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 4, 2, 8);
+        String hash = hasher.encode("secret").join();
+
+        assertTrue(hasher.matches("secret", hash).join());
+        assertFalse(hasher.matches("wrong", hash).join());
+    }
+
+    @Test
+    void matches_ShouldFailForUnknownUser_EvenWithDummyPassword() {
+        PasswordHasher hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 4, 1, 8);
+
+        assertFalse(hasher.matches("anything", null).join());
+    }
+
+    @Test
+    void needsRehash_ShouldCompareCostWithConfiguredCost() {
+        PasswordHasher hasher = new PasswordHasher(encoder, new SimpleMeterRegistry(), 5, 1, 8);
+
+        assertTrue(hasher.needsRehash(encoder.encode("pw")));
+        assertFalse(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("pw")));
+        assertFalse(hasher.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void encode_ShouldRejectWork_WhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                if ("block".contentEquals(raw)) {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return encoder.encode(raw);
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return encoder.matches(raw, encoded);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blocking, new SimpleMeterRegistry(), 4, 1, 1);
+
+        CompletableFuture<String> running = hasher.encode("block");
+        started.await();
+        CompletableFuture<String> queued = hasher.encode("queued");
+        assertThrows(RejectedExecutionException.class, () -> hasher.encode("overflow"));
+
+        release.countDown();
+        assertNotNull(running.join());
+        assertNotNull(queued.join());
+    }
+}
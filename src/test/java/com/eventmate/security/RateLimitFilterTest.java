@@ -0,0 +1,94 @@
+package com.eventmate.security;
+
+import com.eventmate.entity.User;
+import com.eventmate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "eventmate.rate-limit.enabled=true",
+        "eventmate.rate-limit.rules[0].name=auth",
+        "eventmate.rate-limit.rules[0].path=/api/auth/**",
+        "eventmate.rate-limit.rules[0].key=ip",
+        "eventmate.rate-limit.rules[0].requests=2",
+        "eventmate.rate-limit.rules[0].per=1h",
+        "eventmate.rate-limit.rules[1].name=api",
+        "eventmate.rate-limit.rules[1].path=/api/events/**",
+        "eventmate.rate-limit.rules[1].key=user",
+        "eventmate.rate-limit.rules[1].requests=1",
+        "eventmate.rate-limit.rules[1].per=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    private static final String LOGIN = """
+            {"email":"nobody@example.com","password":"wrong"}""";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private UserRepository userRepository;
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void authEndpoints_ShouldBeLimitedPerIpWithRetryAfter() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/login").with(remoteAddr("10.0.0.1"))
+                            .contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                    .andExpect(status().is(not(429)));
+        }
+        mockMvc.perform(post("/api/auth/login").with(remoteAddr("10.0.0.1"))
+                        .contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1800"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        mockMvc.perform(post("/api/auth/login").with(remoteAddr("10.0.0.2"))
+                        .contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().is(not(429)));
+    }
+
+    @Test
+    void authenticatedEndpoints_ShouldBeLimitedPerUserAcrossAddresses() throws Exception {
+        String alice = token("alice@example.com");
+        String bob = token("bob@example.com");
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, alice).with(remoteAddr("10.0.1.1")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, alice).with(remoteAddr("10.0.1.2")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, bob).with(remoteAddr("10.0.1.1")))
+                .andExpect(status().isOk());
+    }
+
+    private String token(String email) {
+        User user = userRepository.save(User.builder()
+                .name(email).email(email).password("x").role(User.Role.ORGANIZER).build());
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    private static RequestPostProcessor remoteAddr(String addr) {
+        return request -> {
+            request.setRemoteAddr(addr);
+            return request;
+        };
+    }
+}
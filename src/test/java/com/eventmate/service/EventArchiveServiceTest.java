@@ -0,0 +1,104 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventRequest;
+import com.eventmate.dto.EventResponse;
+import com.eventmate.entity.ArchivedEvent;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.User;
+import com.eventmate.repository.ArchivedEventRepository;
+import com.eventmate.repository.ArchivedRegistrationRepository;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventArchiveServiceTest {
+
+    @Autowired private EventArchiveService archiveService;
+    @Autowired private EventService eventService;
+    @Autowired private RegistrationService registrationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private ArchivedEventRepository archivedEventRepository;
+    @Autowired private ArchivedRegistrationRepository archivedRegistrationRepository;
+
+    private Long organizerId;
+    private Long attendeeId;
+    private Instant now;
+
+    @BeforeEach
+    void seed() {
+        organizerId = userRepository.save(User.builder()
+                .name("Org").email("archive-org@example.com").password("x").role(User.Role.ORGANIZER).build()).getId();
+        attendeeId = userRepository.save(User.builder()
+                .name("A").email("archive-a@example.com").password("x").role(User.Role.ATTENDEE).build()).getId();
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @AfterEach
+    void cleanup() {
+        archivedRegistrationRepository.deleteAll();
+        archivedEventRepository.deleteAll();
+        outboxRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void archiveEnded_ShouldMoveOldEvents_AndKeepThemReadable() {
+        Event old = eventService.createEvent(organizerId, request("Last spring", now.minus(Duration.ofDays(60))));
+        registrationService.register(attendeeId, old.getId());
+        Event recent = eventService.createEvent(organizerId, request("Last week", now.minus(Duration.ofDays(7))));
+
+        assertTrue(archiveService.archiveEnded() >= 1);
+        assertFalse(eventRepository.existsById(old.getId()));
+        assertTrue(eventRepository.existsById(recent.getId()));
+        assertTrue(registrationRepository.findByEventIdAndUserId(old.getId(), attendeeId).isEmpty());
+        assertEquals(1, archivedRegistrations(old.getId()));
+        assertEquals(1, archivedEventRepository.findById(old.getId()).orElseThrow().getBooked());
+
+        EventResponse read = eventService.getEventResponse(old.getId()).orElseThrow();
+        assertEquals("Last spring", read.title());
+        assertEquals(old.getStartTime(), read.startTime());
+        assertEquals(0, archiveService.archiveEnded());
+    }
+
+    @Test
+    void deleteEvent_ShouldArchiveAsDeleted_AndHideFromReads() {
+        Event event = eventService.createEvent(organizerId, request("Cancelled", now.plus(Duration.ofDays(10))));
+        registrationService.register(attendeeId, event.getId());
+
+        eventService.deleteEvent(organizerId, event.getId());
+
+        assertFalse(eventRepository.existsById(event.getId()));
+        ArchivedEvent archived = archivedEventRepository.findById(event.getId()).orElseThrow();
+        assertNotNull(archived.getDeletedAt());
+        assertEquals(1, archivedRegistrations(event.getId()));
+        assertTrue(eventService.getEventResponse(event.getId()).isEmpty());
+    }
+
+    private long archivedRegistrations(Long eventId) {
+        return archivedRegistrationRepository.findAll().stream().filter(r -> r.getEventId().equals(eventId)).count();
+    }
+
+    private static EventRequest request(String title, Instant start) {
+        return new EventRequest(title, "desc", "Pune", start, start.plus(Duration.ofHours(2)), 10);
+    }
+}
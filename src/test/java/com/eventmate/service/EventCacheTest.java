@@ -0,0 +1,24 @@
+package com.eventmate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCacheTest {
+
+    private final EventCache cache = new EventCache(new SimpleMeterRegistry(), 100, 60_000);
+
+    @Test
+    void get_ShouldLoadAgain_AfterTheLoaderThrewAnError() {
+        assertThrows(StackOverflowError.class, () -> cache.get(7L, id -> {
+            throw new StackOverflowError();
+        }));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertEquals(Optional.empty(), cache.get(7L, id -> Optional.empty())));
+    }
+}
@@ -0,0 +1,158 @@
+package com.eventmate.service;
+
+import com.eventmate.PostgresTestDatabase;
+import com.eventmate.dto.EventRequest;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parallel writes against the events_no_overlap exclusion constraint (V7). Needs a real
+ * Postgres, as H2 has no exclusion constraints: runs with {@code mvn verify -Ppostgres}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("postgres")
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class EventOverlapStressTest {
+
+    private static final int CLIENTS = 64;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "32");
+    }
+
+    @Autowired private EventService eventService;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long organizerId;
+
+    @AfterEach
+    void cleanup() {
+        if (organizerId != null) {
+            eventRepository.deleteAll(eventRepository.findByCreatedBy(organizerId));
+            userRepository.deleteById(organizerId);
+        }
+    }
+
+    @Test
+    void createEvent_ShouldAcceptExactlyOne_OfManyOverlappingParallelCreates() throws Exception {
+        organizerId = saveOrganizer();
+        Instant start = Instant.parse("2031-03-01T10:00:00Z");
+
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            // every request overlaps every other one by at least 30 minutes
+            Instant s = start.plus(Duration.ofMinutes(i % 30));
+            EventRequest req = new EventRequest("Session " + i, null, "Hall A", s, s.plus(Duration.ofHours(1)), 10);
+            futures.add(pool.submit(() -> {
+                go.await();
+                try {
+                    eventService.createEvent(organizerId, req);
+                    created.incrementAndGet();
+                } catch (IllegalStateException ex) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        go.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(1, created.get());
+        assertEquals(CLIENTS - 1, conflicts.get());
+        assertEquals(1, eventRepository.findByCreatedBy(organizerId).size());
+    }
+
+    @Test
+    void updateEvent_ShouldAcceptExactlyOne_OfManyParallelMovesIntoTheSameSlot() throws Exception {
+        organizerId = saveOrganizer();
+        Instant day = Instant.parse("2031-04-01T00:00:00Z");
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Instant s = day.plus(Duration.ofHours(2L * i));
+            events.add(eventService.createEvent(organizerId,
+                    new EventRequest("Session " + i, null, "Hall A", s, s.plus(Duration.ofHours(1)), 10)));
+        }
+
+        // past every existing event, and every move overlaps every other one by at least 30 minutes
+        Instant target = day.plus(Duration.ofMinutes(200L * CLIENTS));
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Event event = events.get(i);
+            Instant s = target.plus(Duration.ofMinutes(i % 30));
+            EventRequest req = new EventRequest(event.getTitle(), null, "Hall A", s, s.plus(Duration.ofHours(1)), 10);
+            futures.add(pool.submit(() -> {
+                go.await();
+                try {
+                    eventService.updateEvent(organizerId, event.getId(), req);
+                    moved.incrementAndGet();
+                } catch (IllegalStateException ex) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        go.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(1, moved.get());
+        assertEquals(CLIENTS - 1, conflicts.get());
+    }
+
+    @Test
+    void overlapConstraint_ShouldRejectOverlappingRows_WrittenAroundTheService() {
+        organizerId = saveOrganizer();
+        String insert = """
+            insert into events (id, title, start_time, end_time, capacity, booked, created_by, created_at, version)
+            values (nextval('events_id_seq'), 'Raw', ?, ?, 10, 0, ?, now(), 0)
+            """;
+        jdbcTemplate.update(insert, Timestamp.valueOf("2031-05-01 10:00:00"), Timestamp.valueOf("2031-05-01 11:00:00"), organizerId);
+        // touching end to start is allowed, as the bounds are [)
+        jdbcTemplate.update(insert, Timestamp.valueOf("2031-05-01 11:00:00"), Timestamp.valueOf("2031-05-01 12:00:00"), organizerId);
+
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(insert,
+                Timestamp.valueOf("2031-05-01 10:30:00"), Timestamp.valueOf("2031-05-01 10:45:00"), organizerId));
+    }
+
+    private Long saveOrganizer() {
+        return userRepository.save(User.builder().name("Stress").password("x")
+                .email("stress-" + System.nanoTime() + "@example.com").role(User.Role.ORGANIZER).build()).getId();
+    }
+}
@@ -1,13 +1,29 @@
 package com.eventmate.service;
 
+import com.eventmate.dto.BulkImportItemResult;
+import com.eventmate.dto.BulkImportResponse;
+import com.eventmate.dto.EventCursor;
+import com.eventmate.dto.EventFilter;
+import com.eventmate.dto.EventPage;
 import com.eventmate.dto.EventRequest;
+import com.eventmate.dto.EventResponse;
 import com.eventmate.entity.Event;
 import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.EventSlot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
 import java.time.Instant;
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,6 +36,30 @@ class EventServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private RegistrationService registrationService;
+
+    @Mock
+    private EventSeriesService eventSeriesService;
+
+    @Mock
+    private EventCache eventCache;
+
+    @Mock
+    private EventArchiveService eventArchiveService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EventService eventService;
 
@@ -39,14 +79,16 @@ class EventServiceTest {
                 50
         );
 
-        when(eventRepository.findOverlappingEvents(any(), any(), any(), any())).thenReturn(Collections.emptyList());
-        when(eventRepository.save(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(eventRepository.existsOverlappingEvent(any(), any(), any(), any())).thenReturn(false);
+        when(eventRepository.saveAndFlush(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Event event = eventService.createEvent(organizerId, req);
 
         assertEquals(req.title(), event.getTitle());
         assertEquals(organizerId, event.getCreatedBy());
-        verify(eventRepository, times(1)).save(any(Event.class));
+        InOrder order = inOrder(userService, eventRepository);
+        order.verify(userService).lockSchedule(organizerId);
+        order.verify(eventRepository, times(1)).saveAndFlush(any(Event.class));
     }
 
     @Test
@@ -72,8 +114,7 @@ class EventServiceTest {
                 10
         );
 
-        when(eventRepository.findOverlappingEvents(any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(new Event()));
+        when(eventRepository.existsOverlappingEvent(any(), any(), any(), any())).thenReturn(true);
 
         IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
                 eventService.createEvent(organizerId, req));
@@ -96,4 +137,127 @@ class EventServiceTest {
                 eventService.updateEvent(organizerId, 5L, req));
         assertEquals("You are not the owner of this event", ex.getMessage());
     }
+
+    @Test
+    void listEvents_ShouldReturnCursor_WhenMoreRowsExist() {
+        Instant start = Instant.parse("2025-12-01T10:00:00Z");
+        List<EventResponse> rows = List.of(
+                new EventResponse(1L, "A", null, "Pune", start, start.plusSeconds(60), 5, organizerId, start, 0L, null),
+                new EventResponse(2L, "B", null, "Pune", start, start.plusSeconds(60), 5, organizerId, start, 0L, null),
+                new EventResponse(3L, "C", null, "Pune", start, start.plusSeconds(60), 5, organizerId, start, 0L, null));
+        EventFilter filter = new EventFilter(start, null, null, null);
+        when(eventRepository.findPage(filter, null, 3)).thenReturn(rows);
+
+        EventPage page = eventService.listEvents(filter, null, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals(new EventCursor(start, 2L), EventCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void listEvents_ShouldOmitCursor_OnLastPage() {
+        Instant start = Instant.parse("2025-12-01T10:00:00Z");
+        EventFilter filter = new EventFilter(start, null, null, null);
+        when(eventRepository.findPage(eq(filter), any(), anyInt())).thenReturn(List.of());
+
+        EventPage page = eventService.listEvents(filter, new EventCursor(start, 9L).encode(), 20);
+
+        assertTrue(page.items().isEmpty());
+        assertNull(page.nextCursor());
+        verify(eventRepository).findPage(filter, new EventCursor(start, 9L), 21);
+    }
+
+    @Test
+    void listEvents_ShouldRejectGarbageCursor() {
+        EventFilter filter = new EventFilter(Instant.now(), null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.listEvents(filter, "not-a-cursor", 20));
+    }
+
+    @Test
+    void createEvent_ShouldReportOverlap_WhenConstraintRejectsInsert() {
+        ReflectionTestUtils.setField(eventService, "relyOnOverlapConstraint", true);
+        EventRequest req = new EventRequest(
+                "Overlap", "desc", "Pune",
+                Instant.parse("2025-12-01T10:00:00Z"),
+                Instant.parse("2025-12-01T12:00:00Z"),
+                10
+        );
+        when(eventRepository.saveAndFlush(any(Event.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("conflicting key value", "23P01")));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
+                eventService.createEvent(organizerId, req));
+        assertTrue(ex.getMessage().contains("overlaps"));
+        verify(eventRepository, never()).existsOverlappingEvent(any(), any(), any(), any());
+    }
+
+    @Test
+    void createEvent_ShouldSkipLockAndSeriesCheck_WhenConstraintGuardsAndNoSeriesRunsThatLate() {
+        ReflectionTestUtils.setField(eventService, "relyOnOverlapConstraint", true);
+        EventRequest req = new EventRequest(
+                "Event1", "desc", "Pune",
+                Instant.parse("2025-12-01T10:00:00Z"),
+                Instant.parse("2025-12-01T12:00:00Z"),
+                50
+        );
+        when(userService.lockScheduleShared(organizerId)).thenReturn(Instant.parse("2025-11-30T00:00:00Z"));
+        when(eventRepository.saveAndFlush(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        eventService.createEvent(organizerId, req);
+
+        verify(userService, never()).lockSchedule(any());
+        verifyNoInteractions(eventSeriesService);
+        verify(eventRepository, never()).existsOverlappingEvent(any(), any(), any(), any());
+    }
+
+    @Test
+    void createEvent_ShouldCheckSeriesOccurrences_WhenASeriesRunsPastTheStart() {
+        ReflectionTestUtils.setField(eventService, "relyOnOverlapConstraint", true);
+        EventRequest req = new EventRequest(
+                "Event1", "desc", "Pune",
+                Instant.parse("2025-12-01T10:00:00Z"),
+                Instant.parse("2025-12-01T12:00:00Z"),
+                50
+        );
+        when(userService.lockScheduleShared(organizerId)).thenReturn(Instant.parse("2026-01-01T00:00:00Z"));
+        when(eventSeriesService.occupiedSlots(organizerId, req.startTime(), req.endTime(), null))
+                .thenReturn(List.of(new EventSlot(Instant.parse("2025-12-01T11:00:00Z"), Instant.parse("2025-12-01T13:00:00Z"))));
+
+        assertThrows(IllegalStateException.class, () -> eventService.createEvent(organizerId, req));
+        verify(eventRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void importEvents_ShouldRejectOverlapsAndInvalidItems_AndSaveTheRestInOneBatch() {
+        Instant day = Instant.parse("2025-12-01T00:00:00Z");
+        List<EventRequest> batch = List.of(
+                new EventRequest("Keynote", null, "Hall", day.plusSeconds(9 * 3600), day.plusSeconds(10 * 3600), 100),
+                new EventRequest("Clash", null, "Hall", day.plusSeconds(9 * 3600 + 1800), day.plusSeconds(11 * 3600), 50),
+                new EventRequest("", null, "Hall", day.plusSeconds(12 * 3600), day.plusSeconds(13 * 3600), 50),
+                new EventRequest("Existing clash", null, "Hall", day.plusSeconds(14 * 3600), day.plusSeconds(15 * 3600), 50),
+                new EventRequest("Workshop", null, "Room 2", day.plusSeconds(10 * 3600), day.plusSeconds(11 * 3600), 20));
+        when(eventRepository.findSlots(eq(organizerId), any(), any()))
+                .thenReturn(List.of(new EventSlot(day.plusSeconds(14 * 3600 + 600), day.plusSeconds(16 * 3600))));
+        when(eventRepository.saveAllAndFlush(anyCollection())).thenAnswer(inv -> {
+            long id = 100;
+            for (Object o : (Iterable<?>) inv.getArgument(0)) ((Event) o).setId(id++);
+            return List.copyOf((java.util.Collection<Event>) inv.getArgument(0));
+        });
+
+        BulkImportResponse response = eventService.importEvents(organizerId, batch);
+
+        assertEquals(2, response.created());
+        assertEquals(3, response.rejected());
+        List<BulkImportItemResult> items = response.items().toList();
+        assertEquals("CREATED", items.get(0).status());
+        assertTrue(items.get(1).error().contains("overlaps"));
+        assertTrue(items.get(2).error().startsWith("title"));
+        assertTrue(items.get(3).error().contains("overlaps"));
+        assertEquals("CREATED", items.get(4).status());
+        assertNotNull(items.get(4).id());
+        verify(eventRepository, times(1)).findSlots(eq(organizerId), any(), any());
+        verify(eventRepository, times(1)).saveAllAndFlush(anyCollection());
+        verify(eventRepository, never()).existsOverlappingEvent(any(), any(), any(), any());
+    }
 }
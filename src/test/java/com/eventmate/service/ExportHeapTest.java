@@ -0,0 +1,95 @@
+package com.eventmate.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exports far more data than the heap can hold. Run with {@code mvn test -Pheavy}, which caps
+ * the test JVM at 128m; materialising the rows instead of streaming them ends in an OOM.
+ * The database is file-backed so that the dataset itself does not live on the heap.
+ */
+@Tag("heavy")
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:file:./target/export-heap/db;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ExportHeapTest {
+
+    private static final long ORGANIZER = 1L;
+    private static final int ROWS = Integer.getInteger("eventmate.export.rows", 300_000);
+    private static final String DESCRIPTION = "x".repeat(1024);
+
+    @Autowired private ExportService exportService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Instant base = Instant.parse("2030-01-01T00:00:00Z");
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int from = 0; from < ROWS; from += 1000) {
+            List<Object[]> batch = new ArrayList<>(1000);
+            for (int i = from; i < Math.min(from + 1000, ROWS); i++) {
+                Instant start = base.plus(i, ChronoUnit.HOURS);
+                batch.add(new Object[] {i + 1L, "Event " + i, DESCRIPTION, "Hall " + (i % 50),
+                    Timestamp.from(start), Timestamp.from(start.plus(30, ChronoUnit.MINUTES)), 100, ORGANIZER, now});
+            }
+            jdbcTemplate.batchUpdate("""
+                insert into events (id, title, description, location, start_time, end_time,
+                                    capacity, booked, created_by, created_at, version)
+                values (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, 0)
+                """, batch);
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from events");
+    }
+
+    @Test
+    void exportEvents_ShouldStreamMoreDataThanFitsInHeap() throws Exception {
+        LineCountingStream csv = new LineCountingStream();
+        exportService.exportEvents(ORGANIZER, ExportFormat.CSV).writeTo(csv);
+        assertEquals(ROWS + 1, csv.lines);
+
+        LineCountingStream ndjson = new LineCountingStream();
+        exportService.exportEvents(ORGANIZER, ExportFormat.NDJSON).writeTo(ndjson);
+        assertEquals(ROWS, ndjson.lines);
+
+        System.out.printf("exported %d rows: csv %d MB, ndjson %d MB, max heap %d MB%n", ROWS,
+            csv.bytes >> 20, ndjson.bytes >> 20, Runtime.getRuntime().maxMemory() >> 20);
+    }
+
+    private static final class LineCountingStream extends OutputStream {
+        long lines;
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') lines++;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.eventmate.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Local stand-in for SMTP: records what would have been sent.
+public class InMemoryNotificationSender implements NotificationSender {
+
+    private final List<Notification> sent = new CopyOnWriteArrayList<>();
+    private final Set<String> unreachable = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void send(Notification notification) {
+        if (unreachable.contains(notification.to())) {
+            throw new IllegalStateException("mailbox unavailable: " + notification.to());
+        }
+        sent.add(notification);
+    }
+
+    // Sends to this address fail until clear() is called.
+    public void failFor(String email) {
+        unreachable.add(email);
+    }
+
+    public List<Notification> sent() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+        unreachable.clear();
+    }
+}
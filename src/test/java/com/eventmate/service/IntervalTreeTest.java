@@ -0,0 +1,55 @@
+package com.eventmate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    private record Span(long start, long end, long id) {}
+
+    @Test
+    void overlapping_ShouldTreatIntervalsAsHalfOpen() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put(10, 20, 1, "a");
+        tree.put(20, 30, 2, "b");
+        tree.put(5, 40, 3, "c");
+
+        assertEquals(List.of("c", "a"), tree.overlapping(15, 20));
+        assertEquals(List.of("c", "b"), tree.overlapping(20, 21));
+        assertEquals(List.of(), tree.overlapping(40, 50));
+    }
+
+    @Test
+    void putAndRemove_ShouldMatchBruteForce() {
+        Random random = new Random(42);
+        IntervalTree<Span> tree = new IntervalTree<>();
+        List<Span> spans = new ArrayList<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            if (!spans.isEmpty() && random.nextInt(3) == 0) {
+                Span gone = spans.remove(random.nextInt(spans.size()));
+                assertTrue(tree.remove(gone.start(), gone.id()));
+            } else {
+                long start = random.nextInt(10_000);
+                Span span = new Span(start, start + 1 + random.nextInt(300), step);
+                spans.add(span);
+                tree.put(span.start(), span.end(), span.id(), span);
+            }
+            long from = random.nextInt(10_000);
+            long to = from + 1 + random.nextInt(500);
+            List<Span> expected = spans.stream()
+                    .filter(s -> s.start() < to && s.end() > from)
+                    .sorted(Comparator.comparingLong(Span::start).thenComparingLong(Span::id))
+                    .toList();
+            assertEquals(expected, tree.overlapping(from, to));
+        }
+        assertEquals(spans.size(), tree.size());
+        assertFalse(tree.remove(-1, -1));
+    }
+}
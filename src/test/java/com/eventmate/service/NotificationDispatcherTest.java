@@ -0,0 +1,160 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventRequest;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.NotificationOutbox;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDispatcherTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        @Primary
+        InMemoryNotificationSender inMemoryNotificationSender() {
+            return new InMemoryNotificationSender();
+        }
+    }
+
+    @Autowired private EventService eventService;
+    @Autowired private RegistrationService registrationService;
+    @Autowired private NotificationDispatcher dispatcher;
+    @Autowired private InMemoryNotificationSender sender;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private RegistrationRepository registrationRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+
+    private Long organizerId;
+    private List<User> attendees;
+
+    @BeforeEach
+    void seed() {
+        organizerId = userRepository.save(user("organizer@example.com", User.Role.ORGANIZER)).getId();
+        attendees = userRepository.saveAll(List.of(
+                user("a@example.com", User.Role.ATTENDEE),
+                user("b@example.com", User.Role.ATTENDEE)));
+        sender.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void dispatch_ShouldCoalesceUpdatesIntoOneMessagePerAttendee() {
+        Event event = eventService.createEvent(organizerId, request("Meetup", 10));
+        attendees.forEach(a -> registrationService.register(a.getId(), event.getId()));
+        dispatcher.dispatchPending();
+        assertEquals(2, sender.sent().size());
+        assertTrue(sender.sent().stream().allMatch(n -> n.subject().startsWith("Registration confirmed")));
+        sender.clear();
+
+        eventService.updateEvent(organizerId, event.getId(), request("Meetup v2", 10));
+        eventService.updateEvent(organizerId, event.getId(), request("Meetup v3", 12));
+        eventService.updateEvent(organizerId, event.getId(), request("Meetup v4", 12));
+        dispatcher.dispatchPending();
+
+        assertEquals(2, sender.sent().size());
+        assertEquals(List.of("a@example.com", "b@example.com"),
+                sender.sent().stream().map(Notification::to).sorted().toList());
+        assertTrue(sender.sent().stream().allMatch(n -> n.subject().equals("Event updated: Meetup v4")));
+        assertEquals(0, dispatcher.dispatchPending());
+    }
+
+    @Test
+    void dispatch_ShouldReachAttendees_AfterEventDeleted() {
+        Event event = eventService.createEvent(organizerId, request("Workshop", 10));
+        attendees.forEach(a -> registrationService.register(a.getId(), event.getId()));
+        dispatcher.dispatchPending();
+        sender.clear();
+
+        eventService.updateEvent(organizerId, event.getId(), request("Workshop", 10));
+        eventService.deleteEvent(organizerId, event.getId());
+        dispatcher.dispatchPending();
+
+        assertEquals(2, sender.sent().size());
+        assertTrue(sender.sent().stream().allMatch(n -> n.subject().equals("Event cancelled: Workshop")));
+    }
+
+    @Test
+    void dispatch_ShouldBackOffFailedRows_InsteadOfRetryingOnNextPoll() {
+        Event event = eventService.createEvent(organizerId, request("Talk", 10));
+        sender.failFor("a@example.com");
+        attendees.forEach(a -> registrationService.register(a.getId(), event.getId()));
+
+        assertEquals(2, dispatcher.dispatchPending());
+        assertEquals(List.of("b@example.com"), sender.sent().stream().map(Notification::to).toList());
+        NotificationOutbox failed = outboxRepository.findAll().stream()
+                .filter(o -> o.getProcessedAt() == null).findFirst().orElseThrow();
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getAvailableAt().isAfter(Instant.now()));
+
+        // still backing off: nothing is claimed, even though the mailbox is reachable again
+        sender.clear();
+        assertEquals(0, dispatcher.dispatchPending());
+        assertTrue(sender.sent().isEmpty());
+    }
+
+    @Test
+    void dispatch_ShouldRetryOnlyTheFailedAttendee_OfAnEventWideNotification() {
+        Event event = eventService.createEvent(organizerId, request("Conference", 10));
+        attendees = new java.util.ArrayList<>(attendees);
+        attendees.add(userRepository.save(user("c@example.com", User.Role.ATTENDEE)));
+        attendees.forEach(a -> registrationService.register(a.getId(), event.getId()));
+        dispatcher.dispatchPending();
+        sender.clear();
+
+        sender.failFor("b@example.com");
+        eventService.updateEvent(organizerId, event.getId(), request("Conference v2", 10));
+        dispatcher.dispatchPending();
+        assertEquals(List.of("a@example.com", "c@example.com"),
+                sender.sent().stream().map(Notification::to).sorted().toList());
+
+        // the backoff has passed and b's mailbox is back
+        List<NotificationOutbox> retrying = outboxRepository.findAll().stream()
+                .filter(o -> o.getProcessedAt() == null).toList();
+        assertEquals(1, retrying.size());
+        retrying.forEach(o -> o.setAvailableAt(null));
+        outboxRepository.saveAll(retrying);
+        sender.clear();
+        dispatcher.dispatchPending();
+
+        assertEquals(List.of("b@example.com"), sender.sent().stream().map(Notification::to).toList());
+        assertEquals("Event updated: Conference v2", sender.sent().get(0).subject());
+        assertEquals(0, dispatcher.dispatchPending());
+    }
+
+    private static User user(String email, User.Role role) {
+        return User.builder().name(email).email(email).password("x").role(role).build();
+    }
+
+    private static EventRequest request(String title, int capacity) {
+        return new EventRequest(title, "desc", "Pune",
+                Instant.parse("2030-06-01T10:00:00Z"), Instant.parse("2030-06-01T12:00:00Z"), capacity);
+    }
+}
@@ -0,0 +1,61 @@
+package com.eventmate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void weekly_ShouldExpandByDayWithinEachWeek_AndHonourInterval() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=TH,TU;COUNT=5");
+        ZonedDateTime first = ZonedDateTime.of(2031, 1, 9, 19, 0, 0, 0, BERLIN);   // a Thursday
+
+        List<Integer> days = rule.expand(first, 100).stream().map(ZonedDateTime::getDayOfMonth).toList();
+
+        // the Tuesday before the first Thursday is skipped, then every other week
+        assertEquals(List.of(9, 21, 23, 4, 6), days);
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH;COUNT=5", rule.toString());
+    }
+
+    @Test
+    void expand_ShouldKeepLocalTimeAcrossDstChange() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=DAILY;UNTIL=20310331T000000Z");
+        ZonedDateTime first = ZonedDateTime.of(2031, 3, 29, 19, 0, 0, 0, BERLIN);
+
+        List<Instant> starts = rule.expand(first, 100).stream().map(ZonedDateTime::toInstant).toList();
+
+        assertEquals(List.of(Instant.parse("2031-03-29T18:00:00Z"), Instant.parse("2031-03-30T17:00:00Z")), starts);
+    }
+
+    @Test
+    void monthly_ShouldSkipMonthsWithoutTheDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+        ZonedDateTime first = ZonedDateTime.of(2031, 1, 31, 10, 0, 0, 0, BERLIN);
+
+        List<Integer> months = rule.expand(first, 100).stream().map(ZonedDateTime::getMonthValue).toList();
+
+        assertEquals(List.of(1, 3, 5, 7), months);
+    }
+
+    @Test
+    void parse_ShouldRejectUnsupportedOrUnboundedRules() {
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;COUNT=3;UNTIL=20310101T000000Z"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY;COUNT=3"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO;COUNT=3"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYHOUR=9;COUNT=3"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX;COUNT=3"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO;COUNT=3")
+                .expand(ZonedDateTime.of(2031, 1, 7, 19, 0, 0, 0, BERLIN), 10));
+        assertEquals(DayOfWeek.MONDAY, RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=mo;COUNT=1").byDay().iterator().next());
+    }
+}
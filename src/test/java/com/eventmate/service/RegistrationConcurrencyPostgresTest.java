@@ -0,0 +1,22 @@
+package com.eventmate.service;
+
+import com.eventmate.PostgresTestDatabase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * The same contention runs on Postgres, where the seat updates, row locks and SKIP LOCKED
+ * waitlist claims are real rather than emulated by H2.
+ */
+@Tag("postgres")
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_VARIABLE, matches = ".+")
+class RegistrationConcurrencyPostgresTest extends RegistrationConcurrencyTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "32");
+    }
+}
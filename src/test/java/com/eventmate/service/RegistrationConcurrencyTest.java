@@ -0,0 +1,196 @@
+package com.eventmate.service;
+
+import com.eventmate.entity.Event;
+import com.eventmate.entity.NotificationOutbox;
+import com.eventmate.entity.Registration;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.EventStatsDeltaRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.RegistrationRepository;
+import com.eventmate.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationConcurrencyTest {
+
+    private static final int ATTENDEES = 400;
+    private static final int CAPACITY = 150;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private EventStatsDeltaRepository deltaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // real rows, so the foreign keys hold when this runs on Postgres
+    private final List<Long> users = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAll();
+        deltaRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAllByIdInBatch(users);
+        users.clear();
+    }
+
+    @Test
+    void register_ShouldNeverOversell_UnderContention() throws Exception {
+        Event event = saveEvent(CAPACITY);
+        List<Long> attendees = saveUsers(ATTENDEES);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Long userId : attendees) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                Registration r = registrationService.register(userId, event.getId());
+                (r.getStatus() == Registration.Status.CONFIRMED ? confirmed : waitlisted).incrementAndGet();
+                return null;
+            }));
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - began);
+        pool.shutdown();
+
+        log.info("registrations: {} attempts, {} confirmed, {} waitlisted in {} ms ({} req/s)",
+                ATTENDEES, confirmed.get(), waitlisted.get(), elapsed.toMillis(),
+                "%.0f".formatted(ATTENDEES / (elapsed.toNanos() / 1e9)));
+
+        assertEquals(CAPACITY, confirmed.get());
+        assertEquals(ATTENDEES - CAPACITY, waitlisted.get());
+        assertEquals(CAPACITY, eventRepository.findById(event.getId()).orElseThrow().getBooked());
+        assertEquals(ATTENDEES, registrationRepository.count());
+    }
+
+    @Test
+    void cancelAndRegister_ShouldNeverLoseOrDuplicateSeats() throws Exception {
+        int capacity = 60;
+        int initial = 100;     // 60 confirmed, 40 waitlisted
+        int cancellations = 70;
+        int newcomers = 50;
+        Event event = saveEvent(capacity);
+        List<Long> existing = new ArrayList<>(saveUsers(initial));
+        for (Long user : existing) {
+            registrationService.register(user, event.getId());
+        }
+
+        // Cancel a random mix of confirmed and waitlisted attendees while new ones register.
+        List<Callable<Void>> tasks = new ArrayList<>();
+        Collections.shuffle(existing, new Random(42));
+        existing.subList(0, cancellations).forEach(user -> tasks.add(() -> {
+            registrationService.cancel(user, event.getId());
+            return null;
+        }));
+        for (Long userId : saveUsers(newcomers)) {
+            tasks.add(() -> {
+                registrationService.register(userId, event.getId());
+                return null;
+            });
+        }
+        Collections.shuffle(tasks, new Random(7));
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        Map<Registration.Status, Long> byStatus = registrationRepository.findAll().stream()
+                .collect(Collectors.groupingBy(Registration::getStatus, Collectors.counting()));
+        long active = initial - cancellations + newcomers;
+        long confirmed = byStatus.getOrDefault(Registration.Status.CONFIRMED, 0L);
+        long waitlisted = byStatus.getOrDefault(Registration.Status.WAITLISTED, 0L);
+
+        assertEquals(cancellations, byStatus.get(Registration.Status.CANCELLED));
+        assertEquals(Math.min(capacity, active), confirmed, "every free seat goes to a waiting attendee");
+        assertEquals(active - confirmed, waitlisted);
+        assertEquals(confirmed, (long) eventRepository.findById(event.getId()).orElseThrow().getBooked());
+
+        // each promotion was announced once, to someone who is no longer waiting
+        Map<Long, Registration> finalState = registrationRepository.findAll().stream()
+                .collect(Collectors.toMap(Registration::getUserId, Function.identity()));
+        List<Long> promoted = outboxRepository.findAll().stream()
+                .filter(n -> n.getType() == NotificationOutbox.Type.WAITLIST_PROMOTED)
+                .map(NotificationOutbox::getUserId)
+                .toList();
+        assertFalse(promoted.isEmpty());
+        assertEquals(promoted.size(), promoted.stream().distinct().count());
+        promoted.forEach(user -> assertNotEquals(Registration.Status.WAITLISTED, finalState.get(user).getStatus()));
+    }
+
+    private List<Long> saveUsers(int count) {
+        List<User> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(User.builder().name("Attendee").password("x").role(User.Role.ATTENDEE)
+                    .email("attendee-" + users.size() + "-" + i + "@example.com").build());
+        }
+        List<Long> ids = userRepository.saveAll(batch).stream().map(User::getId).toList();
+        users.addAll(ids);
+        return ids;
+    }
+
+    private Event saveEvent(int capacity) {
+        Long organizer = userRepository.save(User.builder().name("Organizer").password("x")
+                .email("organizer-" + users.size() + "@example.com").role(User.Role.ORGANIZER).build()).getId();
+        users.add(organizer);
+        return eventRepository.save(Event.builder()
+                .title("Hot event")
+                .startTime(Instant.parse("2030-01-01T10:00:00Z"))
+                .endTime(Instant.parse("2030-01-01T12:00:00Z"))
+                .capacity(capacity)
+                .createdBy(organizer)
+                .createdAt(Instant.now())
+                .build());
+    }
+}
@@ -1,5 +1,169 @@
 package com.eventmate.service;
 
+import com.eventmate.entity.Registration;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.RegistrationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
 public class RegistrationServiceTest {
-    
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserCalendarIndex calendarIndex;
+
+    @InjectMocks
+    private RegistrationService registrationService;
+
+    private final Long userId = 7L;
+    private final Long eventId = 3L;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void register_ShouldReserveSeat_WhenAvailable() {
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.empty());
+        when(registrationRepository.saveAndFlush(any(Registration.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(eventRepository.reserveSeat(eventId)).thenReturn(1);
+
+        Registration registration = registrationService.register(userId, eventId);
+
+        assertEquals(Registration.Status.CONFIRMED, registration.getStatus());
+        assertEquals(eventId, registration.getEventId());
+        verify(eventRepository).reserveSeat(eventId);
+    }
+
+    @Test
+    void register_ShouldWaitlist_WhenEventFull() {
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.empty());
+        when(registrationRepository.saveAndFlush(any(Registration.class))).thenAnswer(inv -> {
+            Registration r = inv.getArgument(0);
+            r.setId(11L);
+            return r;
+        });
+        when(eventRepository.reserveSeat(eventId)).thenReturn(0);
+        when(eventRepository.lockSeats(eventId)).thenReturn(1);
+
+        Registration registration = registrationService.register(userId, eventId);
+
+        assertEquals(Registration.Status.WAITLISTED, registration.getStatus());
+        verify(registrationRepository).moveToWaitlist(11L);
+        verify(notificationService).waitlisted(userId, eventId);
+        verify(notificationService, never()).registrationConfirmed(any(), any());
+    }
+
+    @Test
+    void register_ShouldTakeSeatFreedWhileWaitingForLock() {
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.empty());
+        when(registrationRepository.saveAndFlush(any(Registration.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(eventRepository.reserveSeat(eventId)).thenReturn(0, 1);
+        when(eventRepository.lockSeats(eventId)).thenReturn(1);
+
+        Registration registration = registrationService.register(userId, eventId);
+
+        assertEquals(Registration.Status.CONFIRMED, registration.getStatus());
+        verify(registrationRepository, never()).moveToWaitlist(any());
+    }
+
+    @Test
+    void register_ShouldFail_WhenEventMissing() {
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.empty());
+        when(registrationRepository.saveAndFlush(any(Registration.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_registration_event"));
+        when(eventRepository.existsById(eventId)).thenReturn(false);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+                registrationService.register(userId, eventId));
+        assertEquals("Event not found", ex.getMessage());
+        verify(eventRepository, never()).reserveSeat(any());
+    }
+
+    @Test
+    void register_ShouldFail_WhenAlreadyConfirmed() {
+        Registration existing = Registration.builder().id(11L).eventId(eventId).userId(userId)
+                .status(Registration.Status.CONFIRMED).createdAt(Instant.now()).build();
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.of(existing));
+        when(registrationRepository.reactivate(eq(11L), any())).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> registrationService.register(userId, eventId));
+        verify(eventRepository, never()).reserveSeat(any());
+    }
+
+    @Test
+    void register_ShouldFail_WhenCalendarBlocksOverlap() {
+        doThrow(new IllegalStateException("Overlaps your registration for event 5"))
+                .when(calendarIndex).checkConflicts(userId, eventId);
+
+        assertThrows(IllegalStateException.class, () -> registrationService.register(userId, eventId));
+        verify(registrationRepository, never()).saveAndFlush(any());
+        verify(eventRepository, never()).reserveSeat(any());
+    }
+
+    @Test
+    void cancel_ShouldReleaseSeatOnce() {
+        Registration existing = Registration.builder().id(11L).eventId(eventId).userId(userId)
+                .status(Registration.Status.CONFIRMED).createdAt(Instant.now()).build();
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.of(existing));
+        when(registrationRepository.cancel(eq(11L), any())).thenReturn(1, 0);
+
+        registrationService.cancel(userId, eventId);
+        assertThrows(IllegalStateException.class, () -> registrationService.cancel(userId, eventId));
+
+        verify(eventRepository, times(1)).releaseSeat(eventId);
+    }
+
+    @Test
+    void cancel_ShouldPassSeatToHeadOfWaitlist() {
+        Registration existing = Registration.builder().id(11L).eventId(eventId).userId(userId)
+                .status(Registration.Status.CONFIRMED).createdAt(Instant.now()).build();
+        Registration next = Registration.builder().id(12L).eventId(eventId).userId(8L)
+                .status(Registration.Status.WAITLISTED).createdAt(Instant.now()).build();
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.of(existing));
+        when(registrationRepository.cancel(eq(11L), any())).thenReturn(1);
+        when(registrationRepository.claimWaitlisted(eq(eventId), any())).thenReturn(List.of(next));
+        when(registrationRepository.promote(12L)).thenReturn(1);
+
+        registrationService.cancel(userId, eventId);
+
+        verify(notificationService).promotedFromWaitlist(8L, eventId);
+        verify(eventRepository, never()).releaseSeat(any());
+    }
+
+    @Test
+    void cancel_ShouldNotReleaseSeat_WhenLeavingWaitlist() {
+        Registration existing = Registration.builder().id(11L).eventId(eventId).userId(userId)
+                .status(Registration.Status.WAITLISTED).createdAt(Instant.now()).build();
+        when(registrationRepository.findByEventIdAndUserId(eventId, userId)).thenReturn(Optional.of(existing));
+        when(registrationRepository.leaveWaitlist(eq(11L), any())).thenReturn(1);
+
+        registrationService.cancel(userId, eventId);
+
+        verify(registrationRepository, never()).cancel(any(), any());
+        verify(eventRepository, never()).releaseSeat(any());
+        verify(notificationService).registrationCancelled(userId, eventId);
+    }
 }
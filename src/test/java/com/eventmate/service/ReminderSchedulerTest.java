@@ -0,0 +1,110 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.EventRequest;
+import com.eventmate.entity.Event;
+import com.eventmate.entity.NotificationOutbox;
+import com.eventmate.entity.SchedulerState;
+import com.eventmate.entity.User;
+import com.eventmate.repository.EventRepository;
+import com.eventmate.repository.NotificationOutboxRepository;
+import com.eventmate.repository.SchedulerStateRepository;
+import com.eventmate.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReminderSchedulerTest {
+
+    @Autowired private ReminderScheduler scheduler;
+    @Autowired private EventService eventService;
+    @Autowired private NotificationService notificationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private NotificationOutboxRepository outboxRepository;
+    @Autowired private SchedulerStateRepository stateRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private Long organizerId;
+    private Instant now;
+
+    @BeforeEach
+    void seed() {
+        organizerId = userRepository.save(User.builder()
+                .name("Org").email("remind-org@example.com").password("x").role(User.Role.ORGANIZER).build()).getId();
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        stateRepository.save(new SchedulerState(ReminderScheduler.JOB, now.minus(Duration.ofMinutes(1))));
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+        stateRepository.deleteAll();
+    }
+
+    @Test
+    void fireDue_ShouldQueueEachReminderOnce_AcrossRestarts() {
+        Event soon = eventService.createEvent(organizerId, request("Soon", now.plus(Duration.ofSeconds(3570))));
+        eventService.createEvent(organizerId, request("Later", now.plus(Duration.ofHours(2))));
+
+        assertEquals(1, scheduler.fireDue(now));
+        List<NotificationOutbox> queued = outboxRepository.findAll().stream()
+                .filter(o -> o.getType() == NotificationOutbox.Type.EVENT_REMINDER).toList();
+        assertEquals(1, queued.size());
+        assertEquals(soon.getId(), queued.get(0).getEventId());
+        assertNull(queued.get(0).getUserId());
+
+        assertEquals(0, scheduler.fireDue(now));
+        ReminderScheduler restarted = new ReminderScheduler(stateRepository, eventRepository, notificationService,
+                transactionManager, List.of(Duration.ofHours(24), Duration.ofHours(1)), Duration.ofMinutes(10), 1000);
+        assertEquals(0, restarted.fireDue(now));
+        assertEquals(now, stateRepository.findById(ReminderScheduler.JOB).orElseThrow().getHighWater());
+    }
+
+    @Test
+    void fireDue_ShouldQueueOnlyTheNearestReminder_WhenCatchingUpAfterDowntime() {
+        stateRepository.save(new SchedulerState(ReminderScheduler.JOB, now.minus(Duration.ofDays(2))));
+        Event withinHour = eventService.createEvent(organizerId, request("Within the hour", now.plus(Duration.ofMinutes(30))));
+        Event withinDay = eventService.createEvent(organizerId, request("Within the day", now.plus(Duration.ofHours(5))));
+        eventService.createEvent(organizerId, request("Tomorrow", now.plus(Duration.ofHours(25))));
+
+        assertEquals(2, scheduler.fireDue(now));
+        List<Long> reminded = outboxRepository.findAll().stream()
+                .filter(o -> o.getType() == NotificationOutbox.Type.EVENT_REMINDER)
+                .map(NotificationOutbox::getEventId).sorted().toList();
+        assertEquals(List.of(withinHour.getId(), withinDay.getId()), reminded);
+    }
+
+    @Test
+    void plan_ShouldLoadOnlyTheWindow_AndReplanMovedEvents() {
+        ReminderScheduler fresh = new ReminderScheduler(stateRepository, eventRepository, notificationService,
+                transactionManager, List.of(Duration.ofHours(1)), Duration.ofMinutes(10), 1000);
+        eventService.createEvent(organizerId, request("Inside", now.plus(Duration.ofMinutes(65))));
+        Event outside = eventService.createEvent(organizerId, request("Outside", now.plus(Duration.ofMinutes(90))));
+
+        fresh.plan();
+        assertEquals(1, fresh.planned());
+
+        eventService.updateEvent(organizerId, outside.getId(), request("Moved", now.plus(Duration.ofMinutes(68))));
+        fresh.onEventChanged(new EventChangedEvent(outside.getId(), EventChangedEvent.Kind.UPDATED));
+        assertEquals(2, fresh.planned());
+    }
+
+    private static EventRequest request(String title, Instant start) {
+        return new EventRequest(title, "desc", "Pune", start, start.plus(Duration.ofMinutes(1)), 10);
+    }
+}
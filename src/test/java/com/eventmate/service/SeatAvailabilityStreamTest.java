@@ -0,0 +1,174 @@
+package com.eventmate.service;
+
+import com.eventmate.dto.SeatAvailability;
+import com.eventmate.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SeatAvailabilityStreamTest {
+
+    private static final Long EVENT_ID = 5L;
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SeatAvailabilityStream stream;
+
+    @AfterEach
+    void shutdown() {
+        if (stream != null) stream.shutdown();
+    }
+
+    @Test
+    void publish_ShouldCoalesceBurstIntoOneReadAndOneMessagePerSubscriber() throws Exception {
+        stream = newStream(10_000);
+        when(eventRepository.findSeats(any())).thenReturn(List.of(seats(0)), List.of(seats(3)));
+        List<RecordingEmitter> emitters = List.of(new RecordingEmitter(2), new RecordingEmitter(2), new RecordingEmitter(2));
+        emitters.forEach(e -> stream.subscribe(EVENT_ID, e));
+
+        for (long user = 1; user <= 3; user++) {
+            stream.onRegistrationChanged(new RegistrationChangedEvent(EVENT_ID, user,
+                    RegistrationChangedEvent.Transition.CONFIRMED, Instant.now()));
+        }
+        stream.publish();
+        stream.publish();   // nothing changed since
+
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.received.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(seats(0), seats(3)), emitter.sent);
+        }
+        verify(eventRepository, times(2)).findSeats(any());   // subscribe + one publish
+    }
+
+    @Test
+    void publish_ShouldDropSubscriberWhoseWriteIsBlocked() throws Exception {
+        stream = newStream(200);
+        when(eventRepository.findSeats(any())).thenReturn(List.of(seats(0)), List.of(seats(1)), List.of(seats(2)));
+        CountDownLatch unblock = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(unblock);
+        RecordingEmitter fast = new RecordingEmitter(3);
+        stream.subscribe(EVENT_ID, slow);
+        stream.subscribe(EVENT_ID, fast);
+
+        stream.onRegistrationChanged(new RegistrationChangedEvent(EVENT_ID, 1L,
+                RegistrationChangedEvent.Transition.CONFIRMED, Instant.now()));
+        stream.publish();
+        assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));
+        Thread.sleep(300);   // the slow write is now past the timeout, the fast one long finished
+        stream.onRegistrationChanged(new RegistrationChangedEvent(EVENT_ID, 2L,
+                RegistrationChangedEvent.Transition.CONFIRMED, Instant.now()));
+        stream.publish();
+
+        assertTrue(fast.received.await(5, TimeUnit.SECONDS));
+        assertEquals(1, stream.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("eventmate.seats.stream.dropped").count());
+        unblock.countDown();
+    }
+
+    @Test
+    void publish_ShouldDropSubscriberInsteadOfQueueingBehindBlockedWrites() throws Exception {
+        stream = newStream(10_000, 1);
+        SeatAvailability otherEvent = new SeatAvailability(6L, 10, 0, 10);
+        when(eventRepository.findSeats(any())).thenReturn(List.of(seats(0)), List.of(seats(1)),
+                List.of(otherEvent), List.of(new SeatAvailability(6L, 10, 1, 9)));
+        CountDownLatch unblock = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(unblock);
+        stream.subscribe(EVENT_ID, slow);
+        stream.onRegistrationChanged(new RegistrationChangedEvent(EVENT_ID, 1L,
+                RegistrationChangedEvent.Transition.CONFIRMED, Instant.now()));
+        stream.publish();
+        assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));   // holds the only sender thread
+
+        RecordingEmitter other = new RecordingEmitter(1);
+        stream.subscribe(6L, other);
+        stream.onRegistrationChanged(new RegistrationChangedEvent(6L, 1L,
+                RegistrationChangedEvent.Transition.CONFIRMED, Instant.now()));
+        stream.publish();
+
+        assertEquals(List.of(otherEvent), other.sent);
+        assertEquals(1, stream.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("eventmate.seats.stream.dropped").count());
+        unblock.countDown();
+    }
+
+    @Test
+    void subscribe_ShouldRejectUnknownEvent() {
+        stream = newStream(10_000);
+        when(eventRepository.findSeats(any())).thenReturn(List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> stream.subscribe(EVENT_ID, new SseEmitter()));
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    private SeatAvailabilityStream newStream(long slowConsumerTimeoutMs) {
+        return newStream(slowConsumerTimeoutMs, 4);
+    }
+
+    private SeatAvailabilityStream newStream(long slowConsumerTimeoutMs, int senderThreads) {
+        return new SeatAvailabilityStream(eventRepository, meterRegistry, 60_000, slowConsumerTimeoutMs, 60_000,
+                senderThreads, senderThreads);
+    }
+
+    private static SeatAvailability seats(int booked) {
+        return new SeatAvailability(EVENT_ID, 10, booked, 10 - booked);
+    }
+
+    private static Object payload(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(part -> part.getData())
+                .filter(SeatAvailability.class::isInstance)
+                .findFirst().orElseThrow();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<Object> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch received;
+
+        RecordingEmitter(int expected) {
+            received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder event) {
+            sent.add(payload(event));
+            received.countDown();
+        }
+    }
+
+    // Takes the initial snapshot, then blocks on every later write.
+    private static class BlockingEmitter extends SseEmitter {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        boolean first = true;
+        final CountDownLatch unblock;
+
+        BlockingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder event) throws IOException {
+            if (first) {
+                first = false;
+                return;
+            }
+            blocked.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException ex) {
+                throw new IOException(ex);
+            }
+        }
+    }
+}
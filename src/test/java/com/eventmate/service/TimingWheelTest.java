@@ -0,0 +1,60 @@
+package com.eventmate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private record Timer(long due, int id) {}
+
+    @Test
+    void add_ShouldRejectTimesBeyondSpan_AndFirePastTimesOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, 1_000);
+        assertEquals(4_095 * 10, wheel.spanMillis());
+        assertThrows(IllegalArgumentException.class, () -> wheel.add(1_000 + 50_000, "far"));
+
+        wheel.add(500, "late");
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_000, fired::add);
+        assertEquals(List.of("late"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldFireEachTimerOnce_NeverEarly_AtMostOneTickLate() {
+        Random random = new Random(7);
+        long tick = 100;
+        long now = 1_700_000_000_000L;
+        TimingWheel<Timer> wheel = new TimingWheel<>(tick, 3, now);
+        List<Timer> pending = new ArrayList<>();
+        int fired = 0;
+        int id = 0;
+
+        for (int step = 0; step < 2_000; step++) {
+            for (int i = random.nextInt(5); i > 0; i--) {
+                Timer timer = new Timer(now + random.nextInt(1_000_000), id++);
+                pending.add(timer);
+                wheel.add(timer.due(), timer);
+            }
+            now += random.nextInt(3_000);
+            long at = now;
+            List<Timer> due = new ArrayList<>();
+            wheel.advance(at, due::add);
+            for (Timer timer : due) {
+                assertTrue(pending.remove(timer), "fired twice");
+                assertTrue(timer.due() <= at, "fired early");
+            }
+            fired += due.size();
+            for (Timer timer : pending) {
+                assertTrue(timer.due() > at - tick, "not fired in time");
+            }
+            assertEquals(pending.size(), wheel.size());
+        }
+        assertTrue(fired > 1_000);
+    }
+}